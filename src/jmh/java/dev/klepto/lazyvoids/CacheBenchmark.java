@@ -0,0 +1,69 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded throughput benchmarks for {@link Cache} with Zipf distributed keys (a few keys are requested very
+ * often, most rarely), compared against an unbounded {@link ConcurrentHashMap#computeIfAbsent}. Runs with every
+ * available core by default, compare against a single-threaded run ({@code -Pjmh.args="-t 1"}) to see how each
+ * scales.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class CacheBenchmark {
+
+    private static final int KEY_SPACE = 100_000;
+
+    private int[] keys;
+    private Cache<Integer, Integer> cache;
+    private Map<Integer, Integer> unbounded;
+
+    @Setup
+    public void setup() {
+        keys = new int[1 << 16];
+        Random.zipf(keys, KEY_SPACE, 1.0);
+        cache = Maps.<Integer, Integer>cache().maximumSize(KEY_SPACE / 10).build(CacheBenchmark::load);
+        unbounded = new ConcurrentHashMap<>();
+    }
+
+    private static Integer load(Integer key) {
+        // Stand-in for an expensive computation.
+        int hash = key;
+        for (int i = 0; i < 100; i++) {
+            hash = hash * 31 + i;
+        }
+        return hash;
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index = (int) Thread.currentThread().getId() * 7919;
+
+        int next(int[] keys) {
+            return keys[index++ & (keys.length - 1)];
+        }
+    }
+
+    @Benchmark
+    public Integer boundedCache(Cursor cursor) {
+        return cache.get(cursor.next(keys));
+    }
+
+    @Benchmark
+    public Integer unboundedComputeIfAbsent(Cursor cursor) {
+        return unbounded.computeIfAbsent(cursor.next(keys), CacheBenchmark::load);
+    }
+
+}
@@ -0,0 +1,92 @@
+package dev.klepto.lazyvoids;
+
+import com.google.common.collect.ImmutableMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Maps#freeze(Map)} perfect hash maps compared against {@link ImmutableMap} and {@link HashMap}.
+ * Build benchmarks report bytes allocated per build ({@code gc.alloc.rate.norm}), which divided by {@code size}
+ * approximates the bytes per entry of each layout (plus the temporary arrays of the build itself).
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrozenMapBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Map<String, Integer> source;
+    private Map<String, Integer> hashMap;
+    private Map<String, Integer> immutableMap;
+    private Map<String, Integer> frozenMap;
+    private String[] hits;
+    private String[] misses;
+    private int index;
+
+    @Setup
+    public void setup() {
+        source = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            source.put("config.key." + i, i);
+        }
+        hashMap = new HashMap<>(source);
+        immutableMap = ImmutableMap.copyOf(source);
+        frozenMap = Maps.freeze(source);
+
+        hits = new String[1024];
+        misses = new String[1024];
+        for (int i = 0; i < hits.length; i++) {
+            // Fresh string instances, so lookups hash and compare like keys read from input would.
+            hits[i] = new String("config.key." + ThreadLocalRandom.current().nextInt(size));
+            misses[i] = "missing.key." + i;
+        }
+    }
+
+    @Benchmark
+    public Map<String, Integer> buildImmutableMap() {
+        return ImmutableMap.copyOf(source);
+    }
+
+    @Benchmark
+    public Map<String, Integer> buildFrozenMap() {
+        return Maps.freeze(source);
+    }
+
+    @Benchmark
+    public Integer getHashMap() {
+        return hashMap.get(hits[index++ & 1023]);
+    }
+
+    @Benchmark
+    public Integer getImmutableMap() {
+        return immutableMap.get(hits[index++ & 1023]);
+    }
+
+    @Benchmark
+    public Integer getFrozenMap() {
+        return frozenMap.get(hits[index++ & 1023]);
+    }
+
+    @Benchmark
+    public Integer missImmutableMap() {
+        return immutableMap.get(misses[index++ & 1023]);
+    }
+
+    @Benchmark
+    public Integer missFrozenMap() {
+        return frozenMap.get(misses[index++ & 1023]);
+    }
+
+}
@@ -0,0 +1,91 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Index} building, sequential and parallel, and for its sorted range queries.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<Order> orders;
+    private Index<Order> index;
+
+    @Setup
+    public void setup() {
+        orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            orders.add(new Order(i, "customer" + (i % 10_000), ThreadLocalRandom.current().nextLong(86_400_000)));
+        }
+        index = build(false);
+    }
+
+    private Index<Order> build(boolean parallel) {
+        Index.Builder<Order> builder = Maps.index(orders)
+                .uniqueLong("id", Order::getId)
+                .multi("customer", Order::getCustomer)
+                .sortedLong("created", Order::getCreated);
+        if (parallel) {
+            builder.parallel();
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public Index<Order> buildSequential() {
+        return build(false);
+    }
+
+    @Benchmark
+    public Index<Order> buildParallel() {
+        return build(true);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int rangeQuery() {
+        long from = ThreadLocalRandom.current().nextLong(86_000_000);
+        return index.sortedLong("created").range(from, from + 60_000).size();
+    }
+
+    public static final class Order {
+        private final long id;
+        private final String customer;
+        private final long created;
+
+        public Order(long id, String customer, long created) {
+            this.id = id;
+            this.customer = customer;
+            this.created = created;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public long getCreated() {
+            return created;
+        }
+    }
+
+}
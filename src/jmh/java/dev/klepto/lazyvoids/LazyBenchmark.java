@@ -0,0 +1,71 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static dev.klepto.lazyvoids.Functions.lazy;
+import static dev.klepto.lazyvoids.Functions.lazyInt;
+
+/**
+ * Benchmarks for reads of initialized {@link Lazy} values, compared against a plain field and a hand-written
+ * double-checked locking holder with a volatile field.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class LazyBenchmark {
+
+    private final String field = "value";
+    private final Lazy<String> lazy = lazy(() -> "value");
+    private final LazyInt lazyInt = lazyInt(() -> 42);
+    private volatile String doubleChecked;
+
+    @Setup
+    public void setup() {
+        lazy.get();
+        lazyInt.getAsInt();
+        doubleChecked();
+    }
+
+    private String doubleChecked() {
+        String value = doubleChecked;
+        if (value == null) {
+            synchronized (this) {
+                value = doubleChecked;
+                if (value == null) {
+                    doubleChecked = value = "value";
+                }
+            }
+        }
+        return value;
+    }
+
+    @Benchmark
+    public String plainField() {
+        return field;
+    }
+
+    @Benchmark
+    public String doubleCheckedLocking() {
+        return doubleChecked();
+    }
+
+    @Benchmark
+    public String lazyGet() {
+        return lazy.get();
+    }
+
+    @Benchmark
+    public int lazyIntGet() {
+        return lazyInt.getAsInt();
+    }
+
+}
@@ -0,0 +1,88 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Maps#loadMapped(Path)} memory-mapped maps. Loading should take the same time for every map
+ * size, lookups are compared against rebuilding the map on heap from its source.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappedMapBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private Path path;
+    private Map<String, String> source;
+    private Map<String, String> mappedMap;
+    private String[] keys;
+    private int index;
+
+    @Setup
+    public void setup() throws IOException {
+        source = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            source.put("item." + i, "description of item " + i);
+        }
+        path = Files.createTempFile("mapped-map", ".bin");
+        Maps.writeMapped(source, path);
+        mappedMap = Maps.loadMapped(path);
+
+        keys = new String[1024];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "item." + ThreadLocalRandom.current().nextInt(size);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mappedMap = null;
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 50)
+    public String loadAndGet() throws IOException {
+        // Single shot, every call maps the file again and mappings are only released by garbage collection.
+        return Maps.<String, String>loadMapped(path).get(keys[index++ & 1023]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 50)
+    public String rebuildAndGet() {
+        return new HashMap<>(source).get(keys[index++ & 1023]);
+    }
+
+    @Benchmark
+    public String getHashMap() {
+        return source.get(keys[index++ & 1023]);
+    }
+
+    @Benchmark
+    public String getMappedMap() {
+        return mappedMap.get(keys[index++ & 1023]);
+    }
+
+}
@@ -0,0 +1,126 @@
+package dev.klepto.lazyvoids;
+
+import com.google.common.collect.ImmutableMap;
+import net.jodah.typetools.TypeResolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static dev.klepto.lazyvoids.Maps.enumEntryMap;
+import static dev.klepto.lazyvoids.Maps.enumIntEntryMap;
+import static dev.klepto.lazyvoids.Maps.map;
+
+/**
+ * Benchmarks for {@link Maps} literal and enumeration map factories.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapsBenchmark {
+
+    private final Function<Item, Integer> uidFunction = Item::getUid;
+    private final Map<Integer, Item> itemsByUid = enumEntryMap(Item::getUid);
+    private final IntMap<Item> itemsByIntUid = enumIntEntryMap(Item::getUid);
+    private final int[] uids = {1337, 9001, 420, 1};
+    private final Map<String, Integer> smallMap = map("one", 1, "two", 2, "three", 3, "four", 4, "five", 5,
+            "six", 6, "seven", 7, "eight", 8);
+    private final String[] smallMapKeys = {"one", "two", "three", "four", "five", "six", "seven", "eight"};
+    private int value;
+
+    @Benchmark
+    public Map<String, Integer> map2() {
+        value++;
+        return map("one", value, "two", value);
+    }
+
+    @Benchmark
+    public Map<String, Integer> map8() {
+        value++;
+        return map("one", value, "two", value, "three", value, "four", value, "five", value, "six", value,
+                "seven", value, "eight", value);
+    }
+
+    @Benchmark
+    public Map<String, Integer> map8ImmutableMap() {
+        // Baseline: default sized builder, as literals were built before compact maps.
+        value++;
+        return ImmutableMap.<String, Integer>builder().put("one", value).put("two", value).put("three", value)
+                .put("four", value).put("five", value).put("six", value).put("seven", value).put("eight", value)
+                .build();
+    }
+
+    @Benchmark
+    public Integer map8Get() {
+        return smallMap.get(smallMapKeys[value++ & 7]);
+    }
+
+    @Benchmark
+    public Map<String, Integer> map20() {
+        value++;
+        return map("k1", value, "k2", value, "k3", value, "k4", value, "k5", value, "k6", value, "k7", value,
+                "k8", value, "k9", value, "k10", value, "k11", value, "k12", value, "k13", value, "k14", value,
+                "k15", value, "k16", value, "k17", value, "k18", value, "k19", value, "k20", value);
+    }
+
+    @Benchmark
+    public Map<Integer, Item> enumEntryMapByUid() {
+        return enumEntryMap(Item::getUid);
+    }
+
+    @Benchmark
+    public Map<Integer, Item> enumEntryMapByUidExplicitType() {
+        return enumEntryMap(Item.class, Item::getUid);
+    }
+
+    @Benchmark
+    public Map<Integer, Item> enumEntryMapCapturing() {
+        // Captures a field, map can't be cached and is rebuilt, only type resolution is cached.
+        int offset = value;
+        return enumEntryMap((Item item) -> item.getUid() + offset);
+    }
+
+    @Benchmark
+    public Map<Integer, Item> enumEntryMapCold() {
+        // Uncached baseline: reflective type resolution and map construction on every call.
+        Class<?> enumType = TypeResolver.resolveRawArguments(Function.class, uidFunction.getClass())[0];
+        return ImmutableMap.copyOf(Arrays.stream((Item[]) enumType.getEnumConstants())
+                .collect(Collectors.toMap(uidFunction, item -> item)));
+    }
+
+    @Benchmark
+    public Item enumEntryMapGet() {
+        return itemsByUid.get(uids[value++ & 3]);
+    }
+
+    @Benchmark
+    public Item enumIntEntryMapGet() {
+        return itemsByIntUid.get(uids[value++ & 3]);
+    }
+
+    public enum Item {
+        SIX_CONSOLES(1337),
+        GAMER_GUITAR(9001),
+        DOG_CAM(420);
+
+        private final int uid;
+
+        Item(int uid) {
+            this.uid = uid;
+        }
+
+        public int getUid() {
+            return uid;
+        }
+    }
+
+}
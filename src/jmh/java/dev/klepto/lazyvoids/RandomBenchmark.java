@@ -0,0 +1,100 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static dev.klepto.lazyvoids.Random.*;
+
+/**
+ * Benchmarks for {@link Random} number generation and random element selection.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    private Integer[] array;
+    private List<Integer> list;
+    private Set<Integer> set;
+
+    @Setup
+    public void setup() {
+        array = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+        list = new ArrayList<>(Arrays.asList(array));
+        set = IntStream.range(0, size).boxed().collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Benchmark
+    public double randomDouble() {
+        return random();
+    }
+
+    @Benchmark
+    public int randomInt() {
+        return random(size);
+    }
+
+    @Benchmark
+    public int randomIntRange() {
+        return random(-size, size);
+    }
+
+    @Benchmark
+    public boolean roll() {
+        return Random.roll(size);
+    }
+
+    @Benchmark
+    public Integer randomElementArray() {
+        return randomElement(array);
+    }
+
+    @Benchmark
+    public Integer randomElementList() {
+        return randomElement(list);
+    }
+
+    @Benchmark
+    public Integer randomElementSet() {
+        return randomElement(set);
+    }
+
+    @Benchmark
+    public Integer randomElementIterator() {
+        return randomElement(set.iterator());
+    }
+
+    @Benchmark
+    public Integer randomElementStream() {
+        return randomElement(set.stream());
+    }
+
+    @Benchmark
+    public List<Integer> sampleList() {
+        return sample(list, 10);
+    }
+
+    @Benchmark
+    public List<Integer> sampleSet() {
+        return sample(set, 10);
+    }
+
+    @Benchmark
+    public List<Integer> sampleIterator() {
+        return sample(set.iterator(), 10);
+    }
+
+}
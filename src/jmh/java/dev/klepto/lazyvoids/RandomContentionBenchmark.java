@@ -0,0 +1,79 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static dev.klepto.lazyvoids.Random.*;
+
+/**
+ * Multi-threaded benchmarks for {@link Random} backends. Runs with every available core by default, compare against a
+ * single-threaded run ({@code -Pjmh.args="-t 1"}) to see how each backend scales. The {@code shared} backend is a
+ * single {@link java.util.Random} instance, which is what {@link Math#random()} uses under the hood.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class RandomContentionBenchmark {
+
+    @Param({"threadLocal", "shared"})
+    private String backend;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        if (backend.equals("shared")) {
+            java.util.Random shared = new java.util.Random();
+            useGenerator(() -> shared);
+        } else {
+            useGenerator(ThreadLocalRandom::current);
+        }
+
+        list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        useGenerator(ThreadLocalRandom::current);
+    }
+
+    @Benchmark
+    public double mathRandom() {
+        return Math.random();
+    }
+
+    @Benchmark
+    public int randomInt() {
+        return random(1000);
+    }
+
+    @Benchmark
+    public long randomLongRange() {
+        return random(-1_000_000_000_000L, 1_000_000_000_000L);
+    }
+
+    @Benchmark
+    public boolean roll() {
+        return Random.roll(100);
+    }
+
+    @Benchmark
+    public Integer randomElementList() {
+        return randomElement(list);
+    }
+
+}
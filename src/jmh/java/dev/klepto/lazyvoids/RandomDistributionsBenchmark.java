@@ -0,0 +1,96 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static dev.klepto.lazyvoids.Random.*;
+
+/**
+ * Benchmarks for non-uniform {@link Random} distributions, compared against {@link java.util.Random#nextGaussian()}.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomDistributionsBenchmark {
+
+    private final java.util.Random shared = new java.util.Random();
+    private final double[] doubles = new double[1024];
+    private final long[] longs = new long[1024];
+    private final int[] ints = new int[1024];
+    private final Zipf zipfSampler = Zipf.of(1_000_000, 1.1);
+
+    @Benchmark
+    public double sharedNextGaussian() {
+        return shared.nextGaussian();
+    }
+
+    @Benchmark
+    public double threadLocalNextGaussian() {
+        return ThreadLocalRandom.current().nextGaussian();
+    }
+
+    @Benchmark
+    public double gaussianZiggurat() {
+        return gaussian();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public double[] gaussianFill() {
+        gaussian(doubles);
+        return doubles;
+    }
+
+    @Benchmark
+    public double exponentialLog() {
+        return -Math.log(1 - ThreadLocalRandom.current().nextDouble());
+    }
+
+    @Benchmark
+    public double exponentialZiggurat() {
+        return exponential();
+    }
+
+    @Benchmark
+    public long poissonSmallMean() {
+        return poisson(3);
+    }
+
+    @Benchmark
+    public long poissonLargeMean() {
+        return poisson(1000);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public long[] poissonFill() {
+        poisson(longs, 1000);
+        return longs;
+    }
+
+    @Benchmark
+    public int zipfSingle() {
+        return zipf(1_000_000, 1.1);
+    }
+
+    @Benchmark
+    public int zipfSampler() {
+        return zipfSampler.sample();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public int[] zipfFill() {
+        zipf(ints, 1_000_000, 1.1);
+        return ints;
+    }
+
+}
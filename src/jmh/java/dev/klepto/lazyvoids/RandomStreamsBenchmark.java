@@ -0,0 +1,65 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static dev.klepto.lazyvoids.Random.doubles;
+import static dev.klepto.lazyvoids.Random.generators;
+
+/**
+ * Benchmarks for seeded {@link Random} streams, summing values and estimating pi with a Monte-Carlo simulation both
+ * sequentially and in parallel. Parallel variants consume exactly the same values as sequential ones.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomStreamsBenchmark {
+
+    private static final long SEED = 42;
+    private static final int SAMPLES = 1_000_000;
+    private static final int TASKS = 1_000;
+
+    private static double estimatePi(long hits, long samples) {
+        return 4.0 * hits / samples;
+    }
+
+    @Benchmark
+    public double doublesSequential() {
+        return doubles(SEED, SAMPLES).sum();
+    }
+
+    @Benchmark
+    public double doublesParallel() {
+        return doubles(SEED, SAMPLES).parallel().sum();
+    }
+
+    @Benchmark
+    public double generatorsSequential() {
+        return estimatePi(generators(SEED, TASKS).mapToLong(this::countHits).sum(), SAMPLES);
+    }
+
+    @Benchmark
+    public double generatorsParallel() {
+        return estimatePi(generators(SEED, TASKS).parallel().mapToLong(this::countHits).sum(), SAMPLES);
+    }
+
+    private long countHits(java.util.SplittableRandom random) {
+        long hits = 0;
+        for (int i = 0; i < SAMPLES / TASKS; i++) {
+            double x = random.nextDouble();
+            double y = random.nextDouble();
+            if (x * x + y * y <= 1) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+}
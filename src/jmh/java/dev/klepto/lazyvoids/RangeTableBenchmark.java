@@ -0,0 +1,94 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link RangeTable} and {@link LongRangeTable} classification, compared against a linear scan over the
+ * same tiers.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangeTableBenchmark {
+
+    @Param({"8", "500"})
+    private int tiers;
+
+    private long[] thresholds;
+    private String[] names;
+    private RangeTable<Long, String> comparableTable;
+    private LongRangeTable<String> primitiveTable;
+    private LongRangeTable<String> lookupTable;
+    private long[] keys;
+    private int index;
+
+    @Setup
+    public void setup() {
+        thresholds = new long[tiers];
+        names = new String[tiers];
+        RangeTable.Builder<Long, String> comparableBuilder = RangeTable.builder();
+        LongRangeTable.Builder<String> primitiveBuilder = LongRangeTable.builder();
+        LongRangeTable.Builder<String> lookupBuilder = LongRangeTable.builder();
+        for (int i = 0; i < tiers; i++) {
+            thresholds[i] = i * 1000L;
+            names[i] = "tier" + i;
+            if (i < tiers - 1) {
+                comparableBuilder.mapRange(i * 1000L, (i + 1) * 1000L, names[i]);
+                primitiveBuilder.mapRange(i * 1000L, (i + 1) * 1000L, names[i]);
+            } else {
+                comparableBuilder.mapAtLeast(i * 1000L, names[i]);
+                primitiveBuilder.mapAtLeast(i * 1000L, names[i]);
+            }
+            lookupBuilder.mapRange(i * 4L, (i + 1) * 4L, names[i]);
+        }
+        comparableTable = comparableBuilder.build();
+        primitiveTable = primitiveBuilder.build();
+        lookupTable = lookupBuilder.build();
+
+        keys = new long[1024];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ThreadLocalRandom.current().nextLong(tiers * 1000L);
+        }
+    }
+
+    private long nextKey() {
+        index = (index + 1) & (keys.length - 1);
+        return keys[index];
+    }
+
+    @Benchmark
+    public String linearScan() {
+        long key = nextKey();
+        for (int i = thresholds.length - 1; i >= 0; i--) {
+            if (key >= thresholds[i]) {
+                return names[i];
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String comparableBinarySearch() {
+        return comparableTable.get(nextKey());
+    }
+
+    @Benchmark
+    public String primitiveBinarySearch() {
+        return primitiveTable.get(nextKey());
+    }
+
+    @Benchmark
+    public String primitiveLookupArray() {
+        return lookupTable.get(nextKey() / 250);
+    }
+
+}
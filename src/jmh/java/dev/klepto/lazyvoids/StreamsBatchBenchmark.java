@@ -0,0 +1,77 @@
+package dev.klepto.lazyvoids;
+
+import one.util.streamex.StreamEx;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static dev.klepto.lazyvoids.Streams.batched;
+import static dev.klepto.lazyvoids.Streams.stream;
+
+/**
+ * Benchmarks for {@link Streams#batched(java.util.stream.Stream, int)}, sequential and parallel, from a sized source
+ * (a list) and from an iterator of unknown size. Batching after collecting everything into a list is the baseline.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamsBatchBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"1000"})
+    private int batchSize;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    private static long checksum(List<Integer> batch) {
+        long sum = 0;
+        for (Integer element : batch) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long collectThenSubLists() {
+        List<Integer> collected = stream(list.iterator()).toList();
+        return StreamEx.ofSubLists(collected, batchSize).mapToLong(StreamsBatchBenchmark::checksum).sum();
+    }
+
+    @Benchmark
+    public long batchedList() {
+        return batched(list.stream(), batchSize).mapToLong(StreamsBatchBenchmark::checksum).sum();
+    }
+
+    @Benchmark
+    public long batchedListParallel() {
+        return batched(list.parallelStream(), batchSize).mapToLong(StreamsBatchBenchmark::checksum).sum();
+    }
+
+    @Benchmark
+    public long batchedIterator() {
+        return batched(stream(list.iterator()), batchSize).mapToLong(StreamsBatchBenchmark::checksum).sum();
+    }
+
+    @Benchmark
+    public long batchedIteratorParallel() {
+        return batched(stream(list.iterator()).parallel(), batchSize)
+                .mapToLong(StreamsBatchBenchmark::checksum).sum();
+    }
+
+}
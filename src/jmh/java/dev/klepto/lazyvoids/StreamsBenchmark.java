@@ -0,0 +1,75 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static dev.klepto.lazyvoids.Streams.stream;
+
+/**
+ * Benchmarks for {@link Streams} factories, each followed by a trivial terminal operation.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamsBenchmark {
+
+    @Param({"16", "1000"})
+    private int size;
+
+    private Integer[] array;
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        array = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+        list = new ArrayList<>(Arrays.asList(array));
+    }
+
+    @Benchmark
+    public long streamEmpty() {
+        return stream().count();
+    }
+
+    @Benchmark
+    public Integer streamElement() {
+        return stream(array[0]).findFirst().orElse(null);
+    }
+
+    @Benchmark
+    public int streamArray() {
+        return stream(array).mapToInt(Integer::intValue).sum();
+    }
+
+    @Benchmark
+    public int streamCollection() {
+        return stream(list).mapToInt(Integer::intValue).sum();
+    }
+
+    @Benchmark
+    public int streamIterator() {
+        return stream(list.iterator()).mapToInt(Integer::intValue).sum();
+    }
+
+    @Benchmark
+    public int streamIteratorSized() {
+        return stream(list.iterator(), size, Spliterator.ORDERED | Spliterator.SIZED).mapToInt(Integer::intValue).sum();
+    }
+
+    @Benchmark
+    public int streamIterable() {
+        return stream((Iterable<Integer>) list).mapToInt(Integer::intValue).sum();
+    }
+
+}
@@ -0,0 +1,84 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static dev.klepto.lazyvoids.Streams.parallel;
+import static dev.klepto.lazyvoids.Streams.stream;
+
+/**
+ * Benchmarks for {@link Streams#parallel(java.util.Collection, ForkJoinPool)}, running two workloads concurrently: a
+ * parallel stream whose stages block (simulating I/O) and a CPU-bound parallel stream on the common pool. In the
+ * {@code commonPool} group both share {@link ForkJoinPool#commonPool()} and the blocking stream pins its workers, in
+ * the {@code dedicatedPool} group the blocking stream runs in a pool of its own. Compare {@code compute} scores of the
+ * two groups to see the isolation.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamsPoolBenchmark {
+
+    private static final long BLOCKING_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private List<Integer> requests;
+    private List<Integer> numbers;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        requests = IntStream.range(0, 64).boxed().collect(Collectors.toList());
+        numbers = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private static int block(int request) {
+        LockSupport.parkNanos(BLOCKING_NANOS);
+        return request;
+    }
+
+    private long compute() {
+        return stream(numbers).parallel().mapToLong(number -> (long) number * number).sum();
+    }
+
+    @Benchmark
+    @Group("commonPool")
+    public int blockingOnCommonPool() {
+        return stream(requests).parallel().mapToInt(StreamsPoolBenchmark::block).sum();
+    }
+
+    @Benchmark
+    @Group("commonPool")
+    public long computeOnCommonPool() {
+        return compute();
+    }
+
+    @Benchmark
+    @Group("dedicatedPool")
+    public int blockingOnDedicatedPool() {
+        return parallel(requests, pool).mapToInt(StreamsPoolBenchmark::block).sum();
+    }
+
+    @Benchmark
+    @Group("dedicatedPool")
+    public long computeWithDedicatedPool() {
+        return compute();
+    }
+
+}
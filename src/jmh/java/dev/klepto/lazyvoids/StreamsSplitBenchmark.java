@@ -0,0 +1,70 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static dev.klepto.lazyvoids.Streams.stream;
+
+/**
+ * Benchmarks for parallel streams over iterators, each element taking a few microseconds of CPU work. Compares the
+ * default unknown-size spliterator of {@link Streams#stream(java.util.Iterator)} with the adaptive one of
+ * {@link Streams#stream(java.util.Iterator, long, int)}, with and without a known size. A parallel stream of the list
+ * itself is the baseline. Run on a multi-core machine, medium sizes show the difference the most.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamsSplitBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    private static long work(int element) {
+        long hash = element;
+        for (int i = 0; i < 1000; i++) {
+            hash = hash * 0x9E3779B97F4A7C15L + i;
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public long listParallel() {
+        return list.parallelStream().mapToLong(StreamsSplitBenchmark::work).sum();
+    }
+
+    @Benchmark
+    public long iteratorParallel() {
+        return stream(list.iterator()).parallel().mapToLong(StreamsSplitBenchmark::work).sum();
+    }
+
+    @Benchmark
+    public long iteratorUnknownSizeParallel() {
+        return stream(list.iterator(), -1, Spliterator.ORDERED).parallel()
+                .mapToLong(StreamsSplitBenchmark::work).sum();
+    }
+
+    @Benchmark
+    public long iteratorSizedParallel() {
+        return stream(list.iterator(), size, Spliterator.ORDERED | Spliterator.SIZED).parallel()
+                .mapToLong(StreamsSplitBenchmark::work).sum();
+    }
+
+}
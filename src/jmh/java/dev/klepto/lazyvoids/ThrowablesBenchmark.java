@@ -0,0 +1,122 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static dev.klepto.lazyvoids.Throwables.attempt;
+import static dev.klepto.lazyvoids.Throwables.runtimeThrows;
+import static dev.klepto.lazyvoids.Throwables.runtimeThrowsInt;
+import static dev.klepto.lazyvoids.Throwables.sneakyThrows;
+
+/**
+ * Benchmarks for {@link Throwables#runtimeThrows}, {@link Throwables#sneakyThrows} and {@link Throwables#attempt} on
+ * both the success and the failure path. Failure benchmarks throw either a preallocated exception, isolating the cost
+ * of wrapping, or a new one per call, as parse failures in a stream pipeline would.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThrowablesBenchmark {
+
+    private final IOException exception = new IOException("expected");
+    private int value;
+
+    private int succeed() throws IOException {
+        return value++;
+    }
+
+    private int fail() throws IOException {
+        throw exception;
+    }
+
+    private int failWithNewException() throws IOException {
+        throw new IOException("expected");
+    }
+
+    @Benchmark
+    public int supplierSuccess() {
+        return runtimeThrows(this::succeed);
+    }
+
+    @Benchmark
+    public int intSupplierSuccess() {
+        return runtimeThrowsInt(this::succeed);
+    }
+
+    @Benchmark
+    public void runnableSuccess() {
+        runtimeThrows(() -> {
+            succeed();
+        });
+    }
+
+    @Benchmark
+    public Object supplierFailure() {
+        try {
+            return runtimeThrows(this::fail);
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object supplierFailureNewException() {
+        try {
+            return runtimeThrows(this::failWithNewException);
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object sneakySupplierFailure() {
+        try {
+            return sneakyThrows(this::fail);
+        } catch (Exception exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object sneakySupplierFailureNewException() {
+        try {
+            return sneakyThrows(this::failWithNewException);
+        } catch (Exception exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object tryCatchFailure() {
+        // Baseline: cost of throwing and catching the same exception without any utility in between.
+        try {
+            return fail();
+        } catch (IOException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Result<Integer> attemptSuccess() {
+        return attempt(this::succeed);
+    }
+
+    @Benchmark
+    public Result<Integer> attemptFailure() {
+        return attempt(this::fail);
+    }
+
+    @Benchmark
+    public Result<Integer> attemptFailureNewException() {
+        return attempt(this::failWithNewException);
+    }
+
+}
@@ -0,0 +1,115 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static dev.klepto.lazyvoids.When.whenType;
+
+/**
+ * Benchmarks for {@link TypeWhen} chains and {@link TypeTable} dispatch, compared against an {@code instanceof} ladder.
+ * Dispatched objects are of eight different classes, so every call site is megamorphic.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeTableBenchmark {
+
+    private static final TypeTable<String> TABLE = When.<String>typeTable()
+            .is(Message1.class, message -> "1")
+            .is(Message2.class, message -> "2")
+            .is(Message3.class, message -> "3")
+            .is(Message4.class, message -> "4")
+            .is(Message5.class, message -> "5")
+            .is(Message6.class, message -> "6")
+            .is(Message7.class, message -> "7")
+            .is(Message8.class, message -> "8")
+            .build();
+
+    private final Object[] messages = {
+            new Message1(), new Message2(), new Message3(), new Message4(),
+            new Message5(), new Message6(), new Message7(), new Message8()
+    };
+    private int index;
+
+    private Object nextMessage() {
+        index = (index + 1) & (messages.length - 1);
+        return messages[index];
+    }
+
+    @Benchmark
+    public String instanceOfLadder() {
+        Object message = nextMessage();
+        if (message instanceof Message1) {
+            return "1";
+        } else if (message instanceof Message2) {
+            return "2";
+        } else if (message instanceof Message3) {
+            return "3";
+        } else if (message instanceof Message4) {
+            return "4";
+        } else if (message instanceof Message5) {
+            return "5";
+        } else if (message instanceof Message6) {
+            return "6";
+        } else if (message instanceof Message7) {
+            return "7";
+        } else if (message instanceof Message8) {
+            return "8";
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String typeWhenChain() {
+        return whenType(nextMessage())
+                .is(Message1.class, message -> "1")
+                .is(Message2.class, message -> "2")
+                .is(Message3.class, message -> "3")
+                .is(Message4.class, message -> "4")
+                .is(Message5.class, message -> "5")
+                .is(Message6.class, message -> "6")
+                .is(Message7.class, message -> "7")
+                .is(Message8.class, message -> "8")
+                .get();
+    }
+
+    @Benchmark
+    public String typeTable() {
+        return TABLE.get(nextMessage());
+    }
+
+    interface Message {
+    }
+
+    static final class Message1 implements Message {
+    }
+
+    static final class Message2 implements Message {
+    }
+
+    static final class Message3 implements Message {
+    }
+
+    static final class Message4 implements Message {
+    }
+
+    static final class Message5 implements Message {
+    }
+
+    static final class Message6 implements Message {
+    }
+
+    static final class Message7 implements Message {
+    }
+
+    static final class Message8 implements Message {
+    }
+
+}
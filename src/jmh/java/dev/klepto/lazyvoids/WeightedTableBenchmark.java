@@ -0,0 +1,65 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link WeightedTable} compared against a cumulative weight scan.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeightedTableBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private double[] weights;
+    private double totalWeight;
+    private WeightedTable<Integer> table;
+    private int[] indices;
+
+    @Setup
+    public void setup() {
+        weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = ThreadLocalRandom.current().nextDouble(1, 100);
+            totalWeight += weights[i];
+        }
+        table = WeightedTable.of(weights);
+        indices = new int[1024];
+    }
+
+    @Benchmark
+    public int cumulativeScan() {
+        double roll = ThreadLocalRandom.current().nextDouble(totalWeight);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    @Benchmark
+    public int aliasTable() {
+        return table.sampleIndex();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public int[] aliasTableBatch() {
+        table.sample(indices);
+        return indices;
+    }
+
+}
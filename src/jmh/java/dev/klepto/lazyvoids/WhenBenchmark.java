@@ -0,0 +1,175 @@
+package dev.klepto.lazyvoids;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static dev.klepto.lazyvoids.When.when;
+
+/**
+ * Benchmarks for {@link When} mapping chains, compared against a plain {@code switch} statement.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WhenBenchmark {
+
+    private static final String[] KEYS = {"one", "two", "three", "four", "five", "six", "seven", "eight", "nine"};
+
+    private static final WhenTable<String, Integer> TABLE = When.<String, Integer>table()
+            .map("one", 1)
+            .map("two", 2)
+            .map("three", 3)
+            .map("four", 4)
+            .map("five", 5)
+            .map("six", 6)
+            .map("seven", 7)
+            .map("eight", 8)
+            .build();
+
+    private static final int[] STATUS_CODES = {200, 201, 204, 301, 400, 401, 403, 404, 500};
+
+    private int index;
+
+    private String nextKey() {
+        index = (index + 1) % KEYS.length;
+        return KEYS[index];
+    }
+
+    private int nextStatusCode() {
+        index = (index + 1) % STATUS_CODES.length;
+        return STATUS_CODES[index];
+    }
+
+    @Benchmark
+    public int whenChain() {
+        return when(nextKey())
+                .map("one", 1)
+                .map("two", 2)
+                .map("three", 3)
+                .map("four", 4)
+                .map("five", 5)
+                .map("six", 6)
+                .map("seven", 7)
+                .map("eight", 8)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int whenTable() {
+        return TABLE.orElse(nextKey(), 0);
+    }
+
+    @Benchmark
+    public String whenChainEagerValues() {
+        String key = nextKey();
+        return when(key)
+                .map("one", String.format("%s=%d", key, 1))
+                .map("two", String.format("%s=%d", key, 2))
+                .map("three", String.format("%s=%d", key, 3))
+                .map("four", String.format("%s=%d", key, 4))
+                .map("five", String.format("%s=%d", key, 5))
+                .map("six", String.format("%s=%d", key, 6))
+                .map("seven", String.format("%s=%d", key, 7))
+                .map("eight", String.format("%s=%d", key, 8))
+                .orElse("");
+    }
+
+    @Benchmark
+    public String whenChainLazyValues() {
+        String key = nextKey();
+        return when(key)
+                .mapGet("one", () -> String.format("%s=%d", key, 1))
+                .mapGet("two", () -> String.format("%s=%d", key, 2))
+                .mapGet("three", () -> String.format("%s=%d", key, 3))
+                .mapGet("four", () -> String.format("%s=%d", key, 4))
+                .mapGet("five", () -> String.format("%s=%d", key, 5))
+                .mapGet("six", () -> String.format("%s=%d", key, 6))
+                .mapGet("seven", () -> String.format("%s=%d", key, 7))
+                .mapGet("eight", () -> String.format("%s=%d", key, 8))
+                .orElse("");
+    }
+
+    @Benchmark
+    public String whenChainPredicates() {
+        return when(nextKey())
+                .mapIf(key -> key.length() == 3, key -> String.format("%s is short", key))
+                .mapIf(key -> key.length() == 4, key -> String.format("%s is medium", key))
+                .mapIf(key -> key.length() == 5, key -> String.format("%s is long", key))
+                .orElse("");
+    }
+
+    @Benchmark
+    public String whenBoxedIntKeys() {
+        Integer key = nextStatusCode();
+        return when(key)
+                .map(200, "ok")
+                .map(201, "created")
+                .map(204, "no content")
+                .map(301, "moved")
+                .map(400, "bad request")
+                .map(401, "unauthorized")
+                .map(403, "forbidden")
+                .map(404, "not found")
+                .orElse("error");
+    }
+
+    @Benchmark
+    public String whenPrimitiveIntKeys() {
+        return when(nextStatusCode())
+                .map(200, "ok")
+                .map(201, "created")
+                .map(204, "no content")
+                .map(301, "moved")
+                .map(400, "bad request")
+                .map(401, "unauthorized")
+                .map(403, "forbidden")
+                .map(404, "not found")
+                .orElse("error");
+    }
+
+    @Benchmark
+    public int whenPrimitiveIntResults() {
+        return when(nextStatusCode())
+                .mapInt(200, 0)
+                .mapInt(201, 1)
+                .mapInt(204, 2)
+                .mapInt(301, 3)
+                .mapInt(400, 4)
+                .mapInt(401, 5)
+                .mapInt(403, 6)
+                .mapInt(404, 7)
+                .orElse(-1);
+    }
+
+    @Benchmark
+    public int switchStatement() {
+        switch (nextKey()) {
+            case "one":
+                return 1;
+            case "two":
+                return 2;
+            case "three":
+                return 3;
+            case "four":
+                return 4;
+            case "five":
+                return 5;
+            case "six":
+                return 6;
+            case "seven":
+                return 7;
+            case "eight":
+                return 8;
+            default:
+                return 0;
+        }
+    }
+
+}
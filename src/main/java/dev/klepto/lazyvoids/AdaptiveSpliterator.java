@@ -0,0 +1,137 @@
+package dev.klepto.lazyvoids;
+
+import lombok.val;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over an iterator that splits by buffering batches of elements into arrays, with batch sizes tuned to the
+ * parallelism of the pool that runs the stream. Created through {@link Streams#stream(Iterator, long, int)} and
+ * {@link Streams#stream(Iterable, long, int)}.
+ * <p>
+ * When the size is known, every split takes an equal share of the elements, sized so that each worker of the pool gets
+ * a few batches to balance the load: a medium input keeps every core busy, where the fixed arithmetic batch growth of
+ * {@link Spliterators#spliteratorUnknownSize(Iterator, int)} would hand most of it to a single core. Buffered batches
+ * are array spliterators, split further in halves.
+ * <p>
+ * When the size is unknown, the estimate stays at {@link Long#MAX_VALUE} until the iterator is exhausted, so the stream
+ * keeps splitting, and every buffered batch is processed as a whole by a single worker. A size hint only seeds the
+ * first batch. Batches then grow along with the number of elements handed out so far, each one a few times smaller
+ * than the share of a single worker: short inputs still get split and long ones reach efficient batch sizes, yet no
+ * batch ever holds a large part of the input.
+ *
+ * @param <T> the element type
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+final class AdaptiveSpliterator<T> implements Spliterator<T> {
+
+    private static final int MIN_BATCH = 16;
+    private static final int MAX_BATCH = 1 << 25;
+    private static final int BATCHES_PER_WORKER = 4;
+
+    private final Iterator<? extends T> iterator;
+    private final int characteristics;
+    private final boolean sized;
+    private final long hint;
+    private long estimate;
+    private long consumed;
+    private int batch;
+
+    AdaptiveSpliterator(Iterator<? extends T> iterator, long size, int characteristics) {
+        this.iterator = iterator;
+        this.sized = (characteristics & SIZED) != 0 && size >= 0;
+        this.characteristics = sized
+                ? characteristics | SIZED | SUBSIZED
+                : characteristics & ~(SIZED | SUBSIZED);
+        this.hint = size;
+        this.estimate = sized ? size : Long.MAX_VALUE;
+    }
+
+    private static int parallelism() {
+        val pool = ForkJoinTask.getPool();
+        return pool != null ? pool.getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+    }
+
+    private int nextBatch() {
+        val batches = (long) parallelism() * BATCHES_PER_WORKER;
+        if (batch == 0) {
+            if (sized) {
+                batch = (int) Math.max(1, Math.min(MAX_BATCH, estimate / batches));
+            } else {
+                batch = hint >= 0 ? (int) Math.max(1, Math.min(MAX_BATCH, hint / batches)) : MIN_BATCH;
+            }
+        } else if (!sized) {
+            batch = (int) Math.max(batch, Math.min(MAX_BATCH, consumed / batches));
+        }
+        return batch;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (!iterator.hasNext()) {
+            estimate = 0;
+            return null;
+        }
+        if (sized && estimate <= 1) {
+            return null;
+        }
+
+        val length = sized ? (int) Math.min(nextBatch(), estimate) : nextBatch();
+        val buffer = new Object[length];
+        int count = 0;
+        do {
+            buffer[count++] = iterator.next();
+        } while (count < length && iterator.hasNext());
+
+        consumed += count;
+        if (sized) {
+            estimate = Math.max(0, estimate - count);
+        }
+        return Spliterators.spliterator(buffer, 0, count, characteristics);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (!iterator.hasNext()) {
+            estimate = 0;
+            return false;
+        }
+        action.accept(iterator.next());
+        if (sized && estimate > 0) {
+            estimate--;
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        iterator.forEachRemaining(action);
+        estimate = 0;
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+        if (hasCharacteristics(SORTED)) {
+            return null;
+        }
+        throw new IllegalStateException();
+    }
+
+}
@@ -0,0 +1,198 @@
+package dev.klepto.lazyvoids;
+
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator that groups elements of a source spliterator into lists of at most {@code size} elements, in encounter
+ * order. Only a single batch is held in memory at a time. Created through
+ * {@link Streams#batched(java.util.stream.Stream, int)}.
+ * <p>
+ * Splits always happen along batch boundaries, so a parallel stream produces exactly the same batches as a sequential
+ * one. Sources with exact prefix sizes ({@link #SUBSIZED}) are split by the source itself: when the prefix doesn't end
+ * on a batch boundary, the first few elements of the suffix are read ahead and handed to the prefix as a tail that
+ * completes its last batch. Other sources are split by reading a growing number of whole batches into an array, the
+ * same way {@link Spliterators#spliteratorUnknownSize(java.util.Iterator, int)} does.
+ * <p>
+ * Estimates of the source are only exact before it's traversed (many spliterators, such as the default
+ * {@link java.util.Collection#spliterator()}, never decrement it), so the number of remaining source elements is taken
+ * once, when the source is still untouched, and counted down as elements are read from it afterwards.
+ * <p>
+ * When batches are bounded by time as well, a batch is also completed once an element arrives after the maximum delay
+ * since the first element of the batch. Time-bounded spliterators are never split.
+ *
+ * @param <T> the element type
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+final class BatchSpliterator<T> implements Spliterator<List<T>>, Consumer<T> {
+
+    private static final int MAX_SPLIT_ELEMENTS = 1 << 20;
+    private static final Object[] EMPTY = new Object[0];
+
+    private final Spliterator<T> source;
+    private final int size;
+    private final long maxDelayNanos;
+    private Object[] tail;
+    private long remaining;
+    private int splitBatches;
+    private List<T> batch;
+
+    BatchSpliterator(Spliterator<T> source, int size, long maxDelayNanos) {
+        this(source, size, maxDelayNanos, EMPTY);
+    }
+
+    private BatchSpliterator(Spliterator<T> source, int size, long maxDelayNanos, Object[] tail) {
+        this.source = source;
+        this.size = size;
+        this.maxDelayNanos = maxDelayNanos;
+        this.tail = tail;
+        this.remaining = source.getExactSizeIfKnown();
+    }
+
+    @Override
+    public void accept(T element) {
+        batch.add(element);
+        if (remaining > 0) {
+            remaining--;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(Consumer<? super List<T>> action) {
+        batch = new ArrayList<>(batchCapacity());
+        if (maxDelayNanos > 0) {
+            if (source.tryAdvance(this)) {
+                val deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < size && System.nanoTime() - deadline < 0 && source.tryAdvance(this)) {
+                    // Collecting into the batch.
+                }
+            }
+        } else {
+            while (batch.size() < size && source.tryAdvance(this)) {
+                // Collecting into the batch.
+            }
+        }
+
+        if (batch.size() < size && tail.length > 0) {
+            val count = Math.min(size - batch.size(), tail.length);
+            for (int i = 0; i < count; i++) {
+                batch.add((T) tail[i]);
+            }
+            tail = Arrays.copyOfRange(tail, count, tail.length);
+        }
+
+        val result = batch;
+        batch = null;
+        if (result.isEmpty()) {
+            return false;
+        }
+        action.accept(result);
+        return true;
+    }
+
+    private int batchCapacity() {
+        return remaining >= 0 ? (int) Math.min(size, remaining + tail.length) : Math.min(size, 1 << 10);
+    }
+
+    @Override
+    public Spliterator<List<T>> trySplit() {
+        if (maxDelayNanos > 0) {
+            return null;
+        }
+        return remaining >= 0 && source.hasCharacteristics(SUBSIZED) ? splitSource() : splitBuffered();
+    }
+
+    private Spliterator<List<T>> splitSource() {
+        val prefix = source.trySplit();
+        if (prefix == null) {
+            return null;
+        }
+
+        // Prefix is untouched, so its estimate is exact.
+        val prefixSize = prefix.estimateSize();
+        remaining = Math.max(0, remaining - prefixSize);
+        val remainder = (int) (prefixSize % size);
+        if (remainder == 0) {
+            return new BatchSpliterator<>(prefix, size, 0);
+        }
+
+        batch = new ArrayList<>(size - remainder);
+        while (batch.size() < size - remainder && source.tryAdvance(this)) {
+            // Reading ahead the elements that complete the last batch of prefix.
+        }
+        Object[] readAhead = batch.toArray();
+        batch = null;
+        if (readAhead.length < size - remainder) {
+            // Source ran out, tail of this spliterator belongs to the prefix now.
+            readAhead = concat(readAhead, tail);
+            tail = EMPTY;
+        }
+        return new BatchSpliterator<>(prefix, size, 0, readAhead);
+    }
+
+    private Spliterator<List<T>> splitBuffered() {
+        val batches = Math.min(Math.max(1, MAX_SPLIT_ELEMENTS / size), splitBatches + 1);
+        val limit = (long) batches * size;
+        if (limit > Integer.MAX_VALUE - 8) {
+            return null;
+        }
+
+        batch = new ArrayList<>((int) Math.min(limit, 1 << 16));
+        while (batch.size() < limit && source.tryAdvance(this)) {
+            // Buffering whole batches for the prefix.
+        }
+        Object[] buffer = batch.toArray();
+        batch = null;
+        if (buffer.length == 0) {
+            return null;
+        }
+
+        splitBatches = batches;
+        if (buffer.length < limit) {
+            // Source ran out, tail of this spliterator belongs to the prefix now.
+            buffer = concat(buffer, tail);
+            tail = EMPTY;
+        }
+        val characteristics = source.characteristics() & ORDERED;
+        return new BatchSpliterator<T>(Spliterators.spliterator(buffer, characteristics), size, 0);
+    }
+
+    private static Object[] concat(Object[] first, Object[] second) {
+        if (second.length == 0) {
+            return first;
+        }
+        val result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    @Override
+    public long estimateSize() {
+        val elements = remaining >= 0 ? remaining : source.estimateSize();
+        if (elements == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        val total = elements + tail.length;
+        return total / size + (total % size == 0 ? 0 : 1);
+    }
+
+    @Override
+    public int characteristics() {
+        int characteristics = source.characteristics() & (ORDERED | IMMUTABLE | CONCURRENT);
+        characteristics |= NONNULL;
+        if (maxDelayNanos == 0 && remaining >= 0) {
+            // Every split of a sized spliterator is sized as well, whether split by the source or buffered.
+            characteristics |= SIZED | SUBSIZED;
+        }
+        return characteristics;
+    }
+
+}
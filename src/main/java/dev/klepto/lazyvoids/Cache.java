@@ -0,0 +1,460 @@
+package dev.klepto.lazyvoids;
+
+import lombok.val;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread-safe, bounded, memoizing function. Results of the loader function are cached until the cache fills up, at
+ * which point the least valuable entries are evicted. Created through {@link Maps#cache()} or
+ * {@link Functions#memoize(Function, int)}.
+ * <ul>
+ * <li>Entries are split into independently locked stripes by key hash, so threads only contend when they access keys of
+ * the same stripe, and the lock is never held while a value is being loaded.</li>
+ * <li>Eviction is frequency-aware (TinyLFU): every stripe keeps least recently used order of its entries and a small
+ * count-min sketch of how often keys were requested. When a stripe is full, a new entry is only admitted if its key was
+ * requested more often than the least recently used entry it would replace. One-off keys therefore don't flush out
+ * frequently used entries.</li>
+ * <li>Loading is single-flight: concurrent requests for the same missing key wait for a single call of the loader. If
+ * the loader throws, the exception is rethrown to all waiting callers and nothing is cached.</li>
+ * <li>Entries optionally expire after a fixed duration since they were loaded.</li>
+ * </ul>
+ * Loader should not return {@code null} (such results aren't cached) and must not request the key it's loading.
+ *
+ * <pre>{@code
+ * private final Cache<String, User> users = Maps.<String, User>cache()
+ *         .maximumSize(10_000)
+ *         .expireAfterWrite(5, TimeUnit.MINUTES)
+ *         .build(database::loadUser);
+ *
+ * User user = users.get(name);
+ * }</pre>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+public final class Cache<K, V> implements Function<K, V> {
+
+    private static final int MAX_STRIPES = 64;
+
+    private final Function<? super K, ? extends V> loader;
+    private final long expireAfterWriteNanos;
+    private final Stripe<K, V>[] stripes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    private Cache(Function<? super K, ? extends V> loader, int maximumSize, long expireAfterWriteNanos) {
+        this.loader = loader;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+
+        val concurrency = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1;
+        val stripeCount = Math.min(Integer.highestOneBit(maximumSize), Math.min(MAX_STRIPES, concurrency));
+        val stripeCapacity = maximumSize / stripeCount;
+        val remainder = maximumSize % stripeCount;
+        this.stripes = (Stripe<K, V>[]) new Stripe<?, ?>[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            // Capacities of stripes add up to exactly the maximum size.
+            stripes[i] = new Stripe<>(i < remainder ? stripeCapacity + 1 : stripeCapacity);
+        }
+    }
+
+    /**
+     * Creates a new cache builder. Usually accessed through {@link Maps#cache()}.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return a new cache builder
+     */
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    private static int spread(int hash) {
+        hash = (hash ^ (hash >>> 16)) * 0x85EBCA6B;
+        hash = (hash ^ (hash >>> 13)) * 0xC2B2AE35;
+        return hash ^ (hash >>> 16);
+    }
+
+    private Stripe<K, V> stripe(int hash) {
+        return stripes[hash >>> 24 & (stripes.length - 1)];
+    }
+
+    private long now() {
+        return expireAfterWriteNanos > 0 ? System.nanoTime() : 0;
+    }
+
+    private boolean expired(Node<V> node) {
+        return expireAfterWriteNanos > 0 && System.nanoTime() - node.writeTime >= expireAfterWriteNanos;
+    }
+
+    /**
+     * Returns the cached value of given key, loading it if it's not cached yet. If value of the same key is already
+     * being loaded by another thread, waits for that load instead of loading it again.
+     *
+     * @param key the key
+     * @return the cached or newly loaded value
+     * @throws IllegalStateException if loader requests the key it's loading
+     */
+    public V get(K key) {
+        val hash = spread(key.hashCode());
+        val stripe = stripe(hash);
+        Loading<V> loading;
+        boolean owner = false;
+        synchronized (stripe) {
+            stripe.sketch.increment(hash);
+            val node = stripe.nodes.get(key);
+            if (node != null) {
+                if (!expired(node)) {
+                    hits.increment();
+                    return node.value;
+                }
+                stripe.nodes.remove(key);
+                evictions.increment();
+            }
+
+            misses.increment();
+            loading = stripe.loading.get(key);
+            if (loading == null) {
+                loading = new Loading<>(() -> loader.apply(key));
+                stripe.loading.put(key, loading);
+                owner = true;
+            }
+        }
+
+        if (owner) {
+            loading.run();
+            synchronized (stripe) {
+                stripe.loading.remove(key);
+                val value = loading.value();
+                if (value != null) {
+                    admit(stripe, key, hash, value);
+                }
+            }
+        } else if (loading.owner == Thread.currentThread()) {
+            throw new IllegalStateException("Recursive load of cache key " + key + ".");
+        }
+        return loading.join();
+    }
+
+    private void admit(Stripe<K, V> stripe, K key, int hash, V value) {
+        if (stripe.nodes.size() >= stripe.capacity) {
+            val eldest = stripe.nodes.entrySet().iterator().next();
+            val victim = eldest.getKey();
+            if (!expired(eldest.getValue())
+                    && stripe.sketch.frequency(hash) <= stripe.sketch.frequency(spread(victim.hashCode()))) {
+                evictions.increment();
+                return;
+            }
+            stripe.nodes.remove(victim);
+            evictions.increment();
+        }
+        stripe.nodes.put(key, new Node<>(value, now()));
+    }
+
+    /**
+     * Returns the cached value of given key, same as {@link #get(Object)}.
+     *
+     * @param key the key
+     * @return the cached or newly loaded value
+     */
+    @Override
+    public V apply(K key) {
+        return get(key);
+    }
+
+    /**
+     * Returns the cached value of given key without loading it.
+     *
+     * @param key the key
+     * @return the cached value or {@code null} if key isn't cached
+     */
+    public V getIfPresent(Object key) {
+        val hash = spread(key.hashCode());
+        val stripe = stripe(hash);
+        synchronized (stripe) {
+            val node = stripe.nodes.get(key);
+            if (node == null || expired(node)) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return node.value;
+        }
+    }
+
+    /**
+     * Removes cached value of given key, if present.
+     *
+     * @param key the key
+     */
+    public void invalidate(Object key) {
+        val stripe = stripe(spread(key.hashCode()));
+        synchronized (stripe) {
+            stripe.nodes.remove(key);
+        }
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void invalidateAll() {
+        for (val stripe : stripes) {
+            synchronized (stripe) {
+                stripe.nodes.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached values, including ones that have expired but weren't removed yet.
+     *
+     * @return the number of cached values
+     */
+    public long size() {
+        long size = 0;
+        for (val stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.nodes.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of times a requested value was found in the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of times a requested value wasn't found in the cache.
+     *
+     * @return the number of cache misses
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of values that were evicted or expired, or not admitted into the cache at all because of
+     * their low request frequency.
+     *
+     * @return the number of evictions
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the ratio of cache hits to all requests, or {@code 1.0} if there were no requests yet.
+     *
+     * @return the hit rate
+     */
+    public double hitRate() {
+        val hits = hitCount();
+        val requests = hits + missCount();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    /**
+     * Cached value along with the time it was loaded.
+     */
+    private static final class Node<V> {
+        private final V value;
+        private final long writeTime;
+
+        private Node(V value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
+
+    /**
+     * Value that is being loaded by the thread that first requested it, other threads wait for its result.
+     */
+    private static final class Loading<V> extends FutureTask<V> {
+        private final Thread owner = Thread.currentThread();
+
+        private Loading(Callable<V> loader) {
+            super(loader);
+        }
+
+        private V value() {
+            try {
+                return get();
+            } catch (ExecutionException | InterruptedException e) {
+                return null;
+            }
+        }
+
+        private V join() {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        return get();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        val cause = e.getCause();
+                        if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        } else if (cause instanceof Error) {
+                            throw (Error) cause;
+                        }
+                        throw new CompletionException(cause);
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * Independently locked part of the cache. Holds entries in least recently used order, keys that are being loaded
+     * and the frequency sketch of requested keys.
+     */
+    private static final class Stripe<K, V> {
+        private final int capacity;
+        private final LinkedHashMap<K, Node<V>> nodes;
+        private final Map<K, Loading<V>> loading = new HashMap<>();
+        private final FrequencySketch sketch;
+
+        private Stripe(int capacity) {
+            this.capacity = capacity;
+            this.nodes = new LinkedHashMap<>(16, 0.75f, true);
+            this.sketch = new FrequencySketch(capacity);
+        }
+    }
+
+    /**
+     * Count-min sketch estimating how many times each key was requested, using four saturating 4-bit counters (kept in
+     * bytes) per key. All counters are halved after every ten times the capacity of requests, so estimates favour
+     * recent history.
+     */
+    private static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int[] SEEDS = {0x97CB3127, 0xB492B66F, 0x9AE16A3B, 0xCBF29CE4};
+        private static final int MAX_COUNT = 15;
+
+        private final byte[] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        private FrequencySketch(int capacity) {
+            val width = Integer.highestOneBit(Math.max(capacity, 8) * 2 - 1) << 1;
+            this.counters = new byte[width * DEPTH];
+            this.mask = width - 1;
+            this.sampleSize = Math.max(capacity, 8) * 10;
+        }
+
+        private int index(int hash, int row) {
+            return row * (mask + 1) + (spread(hash ^ SEEDS[row]) & mask);
+        }
+
+        private void increment(int hash) {
+            for (int row = 0; row < DEPTH; row++) {
+                val index = index(hash, row);
+                if (counters[index] < MAX_COUNT) {
+                    counters[index]++;
+                }
+            }
+            if (++additions >= sampleSize) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        private int frequency(int hash) {
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < DEPTH; row++) {
+                frequency = Math.min(frequency, counters[index(hash, row)]);
+            }
+            return frequency;
+        }
+    }
+
+    /**
+     * Builder for {@link Cache}.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    public static final class Builder<K, V> {
+
+        private int maximumSize = 10_000;
+        private long expireAfterWriteNanos;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of cached values (by default 10,000). Capacity is split evenly among stripes, so the
+         * cache never grows past the maximum size, but a stripe may start evicting slightly before the whole cache is
+         * full.
+         *
+         * @param maximumSize the maximum number of cached values
+         * @return this builder
+         * @throws IllegalArgumentException if maximum size is not positive
+         */
+        public Builder<K, V> maximumSize(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets cached values to expire after given duration since they were loaded. By default values never expire.
+         *
+         * @param duration the duration
+         * @param unit     the duration unit
+         * @return this builder
+         * @throws IllegalArgumentException if duration is not positive
+         */
+        public Builder<K, V> expireAfterWrite(long duration, TimeUnit unit) {
+            if (duration <= 0) {
+                throw new IllegalArgumentException("Expiration duration must be positive: " + duration);
+            }
+            this.expireAfterWriteNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Builds a cache of given loader function.
+         *
+         * @param loader the loader function, computes values of keys that aren't cached
+         * @return a new cache
+         */
+        public Cache<K, V> build(Function<? super K, ? extends V> loader) {
+            return new Cache<>(requireNonNull(loader), maximumSize, expireAfterWriteNanos);
+        }
+
+    }
+
+}
@@ -0,0 +1,242 @@
+package dev.klepto.lazyvoids;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.val;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, insertion ordered map for a handful of entries. Keys and values are stored interleaved in a single
+ * array of exact size and looked up with a linear scan, which for small maps is both smaller and faster than hashing.
+ * Used by {@link Maps#map(Object, Object)} literals of up to 8 entries, larger literals are backed by a hashed
+ * {@link ImmutableMap}. Behaves the same way as the latter: it doesn't permit {@code null} keys or values, every
+ * modifying method throws {@link UnsupportedOperationException} (even if it would have no effect) and
+ * {@link Object#toString()}, {@link Object#equals(Object)} and {@link Object#hashCode()} follow the {@link Map}
+ * contract. It's serialized as an {@link ImmutableMap} of the same entries.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+final class CompactMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] keysAndValues;
+
+    /**
+     * Creates a new map backed by given array. The array is owned by the map and must not be modified afterwards.
+     *
+     * @param keysAndValues the array of key and value pairs
+     * @throws NullPointerException     if any key or value is {@code null}
+     * @throws IllegalArgumentException if keys contain duplicates
+     */
+    CompactMap(Object[] keysAndValues) {
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            requireNonNull(keysAndValues[i], "Map keys can't be null.");
+            requireNonNull(keysAndValues[i + 1], "Map values can't be null.");
+            for (int j = 0; j < i; j += 2) {
+                if (keysAndValues[i].equals(keysAndValues[j])) {
+                    throw new IllegalArgumentException("Duplicate key " + keysAndValues[i] + " (attempted mapping to "
+                            + keysAndValues[j + 1] + " and " + keysAndValues[i + 1] + ").");
+                }
+            }
+        }
+        this.keysAndValues = keysAndValues;
+    }
+
+    private int indexOf(Object key) {
+        if (key != null) {
+            for (int i = 0; i < keysAndValues.length; i += 2) {
+                if (key.equals(keysAndValues[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        val index = indexOf(key);
+        return index >= 0 ? (V) keysAndValues[index + 1] : null;
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        val result = get(key);
+        return result != null ? result : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (value != null) {
+            for (int i = 1; i < keysAndValues.length; i += 2) {
+                if (value.equals(keysAndValues[i])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return keysAndValues.length >> 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keysAndValues.length == 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            action.accept((K) keysAndValues[i], (V) keysAndValues[i + 1]);
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return CompactMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            hash += keysAndValues[i].hashCode() ^ keysAndValues[i + 1].hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Serializes this map as an {@link ImmutableMap}, so the serialized form doesn't depend on this class.
+     *
+     * @return an immutable map of the same entries
+     */
+    private Object writeReplace() {
+        return ImmutableMap.copyOf(this);
+    }
+
+    /**
+     * Read-only iterator over map entries, in insertion order.
+     */
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < keysAndValues.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            val entry = new SimpleImmutableEntry<>((K) keysAndValues[index], (V) keysAndValues[index + 1]);
+            index += 2;
+            return entry;
+        }
+
+    }
+
+}
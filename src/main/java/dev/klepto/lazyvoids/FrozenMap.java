@@ -0,0 +1,314 @@
+package dev.klepto.lazyvoids;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.val;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable map indexed by a minimal perfect hash function, built with the hash-and-displace (CHD) algorithm. Keys
+ * are first distributed into small buckets, then a displacement seed is searched for every bucket (largest buckets
+ * first) so that all of its keys land in distinct free slots. The result is a table of exactly as many slots as there
+ * are entries, stored in flat parallel key and value arrays, plus one {@code int} displacement per four entries.
+ * Lookups hash the key, read the displacement of its bucket and compare the key in a single slot, there are no entry
+ * objects and no probing. Keys that share their hash code with another key can't be told apart by any hash function,
+ * these few are kept in a small overflow map that is only consulted when the slot doesn't match. Iteration order is
+ * unspecified. Created through {@link Maps#freeze(Map)}.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+final class FrozenMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int BUCKET_SIZE = 4;
+    private static final int MAX_DISPLACEMENT_ATTEMPTS = 1 << 16;
+    private static final int SEED_GAMMA = 0x9E3779B9;
+
+    private final int[] displacements;
+    private final Object[] keys;
+    private final Object[] values;
+    private final Map<Object, Object> overflow; // null if there are no colliding keys
+
+    private FrozenMap(int[] displacements, Object[] keys, Object[] values, Map<Object, Object> overflow) {
+        this.displacements = displacements;
+        this.keys = keys;
+        this.values = values;
+        this.overflow = overflow;
+    }
+
+    /**
+     * Builds a perfect hash map containing all mappings of given map.
+     *
+     * @param map the map to be frozen
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return a new frozen map, or {@code null} if no perfect hash function was found
+     * @throws NullPointerException if map contains a {@code null} key or value
+     */
+    static <K, V> FrozenMap<K, V> of(Map<K, V> map) {
+        int size = map.size();
+        Object[] entryKeys = new Object[size];
+        Object[] entryValues = new Object[size];
+        int[] hashes = new int[size];
+        int index = 0;
+        for (val entry : map.entrySet()) {
+            entryKeys[index] = requireNonNull(entry.getKey(), "Map keys can't be null.");
+            entryValues[index] = requireNonNull(entry.getValue(), "Map values can't be null.");
+            hashes[index] = mix(entryKeys[index].hashCode());
+            index++;
+        }
+
+        // Keys sharing a hash code can't be told apart by the hash function, these are moved to an overflow map.
+        val collisions = collidingHashes(hashes);
+        Map<Object, Object> overflow = null;
+        if (!collisions.isEmpty()) {
+            val overflowBuilder = ImmutableMap.builder();
+            int retained = 0;
+            for (int i = 0; i < size; i++) {
+                if (collisions.contains(hashes[i])) {
+                    overflowBuilder.put(entryKeys[i], entryValues[i]);
+                } else {
+                    entryKeys[retained] = entryKeys[i];
+                    entryValues[retained] = entryValues[i];
+                    hashes[retained] = hashes[i];
+                    retained++;
+                }
+            }
+            overflow = overflowBuilder.build();
+            size = retained;
+            entryKeys = Arrays.copyOf(entryKeys, size);
+            entryValues = Arrays.copyOf(entryValues, size);
+            hashes = Arrays.copyOf(hashes, size);
+        }
+
+        // Group entry indices by bucket (counting sort), then order buckets from largest to smallest.
+        val bucketCount = Math.max(1, (size + BUCKET_SIZE - 1) / BUCKET_SIZE);
+        val bucketStarts = new int[bucketCount + 1];
+        for (val hash : hashes) {
+            bucketStarts[bucket(hash, bucketCount) + 1]++;
+        }
+        int maxBucketSize = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            maxBucketSize = Math.max(maxBucketSize, bucketStarts[i + 1]);
+            bucketStarts[i + 1] += bucketStarts[i];
+        }
+        val bucketEntries = new int[size];
+        val bucketFill = Arrays.copyOf(bucketStarts, bucketCount);
+        for (int i = 0; i < size; i++) {
+            bucketEntries[bucketFill[bucket(hashes[i], bucketCount)]++] = i;
+        }
+        val bucketsBySize = new int[bucketCount];
+        val sizeStarts = new int[maxBucketSize + 2];
+        for (int i = 0; i < bucketCount; i++) {
+            sizeStarts[maxBucketSize - (bucketStarts[i + 1] - bucketStarts[i]) + 1]++;
+        }
+        for (int i = 0; i <= maxBucketSize; i++) {
+            sizeStarts[i + 1] += sizeStarts[i];
+        }
+        for (int i = 0; i < bucketCount; i++) {
+            bucketsBySize[sizeStarts[maxBucketSize - (bucketStarts[i + 1] - bucketStarts[i])]++] = i;
+        }
+
+        val displacements = new int[bucketCount];
+        val keys = new Object[size];
+        val values = new Object[size];
+        val slots = new int[maxBucketSize];
+        int freeSlot = 0;
+        for (val bucket : bucketsBySize) {
+            val start = bucketStarts[bucket];
+            val bucketSize = bucketStarts[bucket + 1] - start;
+            if (bucketSize == 0) {
+                break;
+            }
+
+            if (bucketSize == 1) {
+                // Single entry buckets take any free slot, stored directly as a negative displacement.
+                while (keys[freeSlot] != null) {
+                    freeSlot++;
+                }
+                displacements[bucket] = -freeSlot - 1;
+                keys[freeSlot] = entryKeys[bucketEntries[start]];
+                values[freeSlot] = entryValues[bucketEntries[start]];
+                continue;
+            }
+
+            val displacement = displace(hashes, bucketEntries, start, bucketSize, keys, slots);
+            if (displacement == 0) {
+                return null;
+            }
+            displacements[bucket] = displacement;
+            for (int i = 0; i < bucketSize; i++) {
+                keys[slots[i]] = entryKeys[bucketEntries[start + i]];
+                values[slots[i]] = entryValues[bucketEntries[start + i]];
+            }
+        }
+        return new FrozenMap<>(displacements, keys, values, overflow);
+    }
+
+    private static Set<Integer> collidingHashes(int[] hashes) {
+        val sortedHashes = hashes.clone();
+        Arrays.sort(sortedHashes);
+        Set<Integer> collisions = Collections.emptySet();
+        for (int i = 1; i < sortedHashes.length; i++) {
+            if (sortedHashes[i] == sortedHashes[i - 1]) {
+                if (collisions.isEmpty()) {
+                    collisions = new HashSet<>();
+                }
+                collisions.add(sortedHashes[i]);
+            }
+        }
+        return collisions;
+    }
+
+    private static int displace(int[] hashes, int[] bucketEntries, int start, int bucketSize, Object[] keys,
+                                int[] slots) {
+        attempts:
+        for (int displacement = 1; displacement <= MAX_DISPLACEMENT_ATTEMPTS; displacement++) {
+            for (int i = 0; i < bucketSize; i++) {
+                val slot = slot(hashes[bucketEntries[start + i]], displacement, keys.length);
+                if (keys[slot] != null) {
+                    continue attempts;
+                }
+                for (int j = 0; j < i; j++) {
+                    if (slots[j] == slot) {
+                        continue attempts;
+                    }
+                }
+                slots[i] = slot;
+            }
+            return displacement;
+        }
+        return 0;
+    }
+
+    private static int mix(int hash) {
+        hash = (hash ^ (hash >>> 16)) * 0x85EBCA6B;
+        hash = (hash ^ (hash >>> 13)) * 0xC2B2AE35;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int reduce(int hash, int range) {
+        return (int) (((hash & 0xFFFFFFFFL) * range) >>> 32);
+    }
+
+    private static int bucket(int hash, int bucketCount) {
+        return reduce(hash, bucketCount);
+    }
+
+    private static int slot(int hash, int displacement, int size) {
+        return reduce(mix(hash ^ displacement * SEED_GAMMA), size);
+    }
+
+    private int indexOf(Object key) {
+        if (key == null || keys.length == 0) {
+            return -1;
+        }
+        val hash = mix(key.hashCode());
+        val displacement = displacements[bucket(hash, displacements.length)];
+        val slot = displacement < 0 ? -displacement - 1 : slot(hash, displacement, keys.length);
+        return key.equals(keys[slot]) ? slot : -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        val index = indexOf(key);
+        return index >= 0 ? (V) values[index] : overflow != null ? (V) overflow.get(key) : null;
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        val result = get(key);
+        return result != null ? result : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0 || overflow != null && overflow.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return keys.length + (overflow != null ? overflow.size() : 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            action.accept((K) keys[i], (V) values[i]);
+        }
+        if (overflow != null) {
+            overflow.forEach((key, value) -> action.accept((K) key, (V) value));
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return FrozenMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = overflow != null ? overflow.hashCode() : 0;
+        for (int i = 0; i < keys.length; i++) {
+            hash += keys[i].hashCode() ^ values[i].hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Read-only iterator over map entries, in slot order followed by overflow entries.
+     */
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private final Iterator<Entry<Object, Object>> overflowEntries = overflow != null
+                ? overflow.entrySet().iterator() : Collections.emptyIterator();
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.length || overflowEntries.hasNext();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (index < keys.length) {
+                val entry = new SimpleImmutableEntry<>((K) keys[index], (V) values[index]);
+                index++;
+                return entry;
+            }
+            return (Entry<K, V>) (Entry<?, ?>) overflowEntries.next();
+        }
+
+    }
+
+}
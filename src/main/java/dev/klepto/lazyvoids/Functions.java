@@ -1,6 +1,15 @@
 package dev.klepto.lazyvoids;
 
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * Voids & bools for functional API.
@@ -21,6 +30,104 @@ public final class Functions {
         return t -> t;
     }
 
+    /**
+     * Returns an {@code int} function that always returns it's input, same as {@link #self()} without boxing.
+     *
+     * @return a function that always returns its input argument
+     */
+    public static IntUnaryOperator intSelf() {
+        return t -> t;
+    }
+
+    /**
+     * Returns a {@code long} function that always returns it's input, same as {@link #self()} without boxing.
+     *
+     * @return a function that always returns its input argument
+     */
+    public static LongUnaryOperator longSelf() {
+        return t -> t;
+    }
+
+    /**
+     * Returns a {@code double} function that always returns it's input, same as {@link #self()} without boxing.
+     *
+     * @return a function that always returns its input argument
+     */
+    public static DoubleUnaryOperator doubleSelf() {
+        return t -> t;
+    }
+
+    /**
+     * Returns a thread-safe function that caches results of given function, keeping at most given amount of results.
+     * Concurrent calls with the same argument compute the result only once. Shorthand for
+     * {@code Maps.<K, V>cache().maximumSize(maximumSize).build(function)}, see {@link Cache}.
+     *
+     * @param function    the function to be memoized
+     * @param maximumSize the maximum number of cached results
+     * @param <K>         the type of the input to the function
+     * @param <V>         the type of the result of the function
+     * @return a memoizing cache of given function
+     */
+    public static <K, V> Cache<K, V> memoize(Function<K, V> function, int maximumSize) {
+        return Cache.<K, V>builder().maximumSize(maximumSize).build(function);
+    }
+
+    /**
+     * Returns a lazily computed value of given supplier. Supplier is called at most once, on first access of the value,
+     * reads after that are as cheap as a field load. Replaces hand-written double-checked locking.
+     *
+     * @param supplier the supplier of the value
+     * @param <T>      the value type
+     * @return a lazy value
+     */
+    public static <T> Lazy<T> lazy(Supplier<? extends T> supplier) {
+        return new Lazy<>(requireNonNull(supplier));
+    }
+
+    /**
+     * Returns a lazily computed value of given throwable supplier, same as {@link #lazy(Supplier)}. Any throwable
+     * thrown by the supplier is rethrown as a runtime exception from {@link Lazy#get()}, see
+     * {@link Throwables#runtimeThrows(ThrowableSupplier)}.
+     *
+     * @param supplier the supplier of the value
+     * @param <T>      the value type
+     * @return a lazy value
+     */
+    public static <T> Lazy<T> lazyThrows(ThrowableSupplier<? extends T> supplier) {
+        requireNonNull(supplier);
+        return new Lazy<>(() -> Throwables.runtimeThrows(supplier));
+    }
+
+    /**
+     * Returns a lazily computed {@code int} value of given supplier, same as {@link #lazy(Supplier)} without boxing.
+     *
+     * @param supplier the supplier of the value
+     * @return a lazy value
+     */
+    public static LazyInt lazyInt(IntSupplier supplier) {
+        return new LazyInt(requireNonNull(supplier));
+    }
+
+    /**
+     * Returns a lazily computed {@code long} value of given supplier, same as {@link #lazy(Supplier)} without boxing.
+     *
+     * @param supplier the supplier of the value
+     * @return a lazy value
+     */
+    public static LazyLong lazyLong(LongSupplier supplier) {
+        return new LazyLong(requireNonNull(supplier));
+    }
+
+    /**
+     * Returns a lazily computed {@code double} value of given supplier, same as {@link #lazy(Supplier)} without boxing.
+     *
+     * @param supplier the supplier of the value
+     * @return a lazy value
+     */
+    public static LazyDouble lazyDouble(DoubleSupplier supplier) {
+        return new LazyDouble(requireNonNull(supplier));
+    }
+
     /**
      * Alternative to {@link Runnable} with Throwable in the method signature. Intended for usage in functional API
      * where exception catching cannot be avoided.
@@ -52,4 +159,103 @@ public final class Functions {
         T get() throws Throwable;
     }
 
+    /**
+     * Alternative to {@link Function} with Throwable in the method signature. Intended for usage in functional API
+     * where exception catching cannot be avoided.
+     */
+    @FunctionalInterface
+    public interface ThrowableFunction<T, R> {
+
+        /**
+         * Applies this function to given argument.
+         *
+         * @param t the function argument
+         * @return result of this function
+         * @throws Throwable any throwable thrown while applying this function
+         */
+        R apply(T t) throws Throwable;
+    }
+
+    /**
+     * Alternative to {@link IntSupplier} with Throwable in the method signature. Intended for usage in functional API
+     * where exception catching cannot be avoided.
+     */
+    @FunctionalInterface
+    public interface ThrowableIntSupplier {
+
+        /**
+         * Gets a result of this supplier.
+         *
+         * @return result of this supplier
+         * @throws Throwable any throwable thrown while getting result of this supplier
+         */
+        int getAsInt() throws Throwable;
+    }
+
+    /**
+     * Alternative to {@link LongSupplier} with Throwable in the method signature. Intended for usage in functional API
+     * where exception catching cannot be avoided.
+     */
+    @FunctionalInterface
+    public interface ThrowableLongSupplier {
+
+        /**
+         * Gets a result of this supplier.
+         *
+         * @return result of this supplier
+         * @throws Throwable any throwable thrown while getting result of this supplier
+         */
+        long getAsLong() throws Throwable;
+    }
+
+    /**
+     * Alternative to {@link DoubleSupplier} with Throwable in the method signature. Intended for usage in functional
+     * API where exception catching cannot be avoided.
+     */
+    @FunctionalInterface
+    public interface ThrowableDoubleSupplier {
+
+        /**
+         * Gets a result of this supplier.
+         *
+         * @return result of this supplier
+         * @throws Throwable any throwable thrown while getting result of this supplier
+         */
+        double getAsDouble() throws Throwable;
+    }
+
+    /**
+     * Alternative to {@link java.util.function.ToIntFunction} with Throwable in the method signature. Intended for
+     * usage in functional API where exception catching cannot be avoided.
+     */
+    @FunctionalInterface
+    public interface ThrowableToIntFunction<T> {
+
+        /**
+         * Applies this function to given argument.
+         *
+         * @param t the function argument
+         * @return result of this function
+         * @throws Throwable any throwable thrown while applying this function
+         */
+        int applyAsInt(T t) throws Throwable;
+    }
+
+    /**
+     * Alternative to {@link java.util.function.Predicate} with Throwable in the method signature. Intended for usage in
+     * functional API where exception catching cannot be avoided.
+     */
+    @FunctionalInterface
+    public interface ThrowablePredicate<T> {
+
+        /**
+         * Evaluates this predicate on given argument.
+         *
+         * @param t the predicate argument
+         * @return true if the argument matches this predicate, otherwise false
+         * @throws Throwable any throwable thrown while evaluating this predicate
+         */
+        boolean test(T t) throws Throwable;
+    }
+
 }
@@ -0,0 +1,362 @@
+package dev.klepto.lazyvoids;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A set of immutable indexes over the same collection of elements, each looking elements up by a different key. The
+ * generalization of {@link Maps#enumEntryMap(Function)} to arbitrary collections and multiple keys. Every index is
+ * given a name when it's declared on the {@link Builder} and is retrieved by the same name:
+ * <ul>
+ * <li>{@link #unique(String)} maps each key to a single element (duplicate keys fail the build);</li>
+ * <li>{@link #multi(String)} maps each key to the list of all elements with that key;</li>
+ * <li>{@link #sorted(String)} orders elements by key and answers range queries;</li>
+ * <li>{@link #uniqueInt(String)}, {@link #uniqueLong(String)} and {@link #sortedLong(String)} are the same for
+ * primitive keys, which are never boxed.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * Index<Order> orders = Maps.index(allOrders)
+ *         .uniqueLong("id", Order::getId)
+ *         .multi("customer", Order::getCustomer)
+ *         .sortedLong("created", Order::getCreatedMillis)
+ *         .parallel()
+ *         .build();
+ *
+ * List<Order> today = orders.sortedLong("created").range(startOfDay, endOfDay);
+ * }</pre>
+ *
+ * @param <T> the element type
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+public final class Index<T> {
+
+    private final Map<String, Object> indexes;
+
+    private Index(Map<String, Object> indexes) {
+        this.indexes = indexes;
+    }
+
+    /**
+     * Creates a new index builder over given elements. Usually accessed through {@link Maps#index(Collection)}.
+     *
+     * @param elements the elements to be indexed
+     * @param <T>      the element type
+     * @return a new index builder
+     */
+    public static <T> Builder<T> builder(Collection<? extends T> elements) {
+        return new Builder<>(elements);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <I> I index(String name, Kind kind) {
+        val index = (Built) indexes.get(name);
+        if (index == null || index.kind != kind) {
+            val kindName = kind.name().toLowerCase().replace('_', ' ');
+            throw new IllegalArgumentException("No " + kindName + " index named '" + name + "'.");
+        }
+        return (I) index.value;
+    }
+
+    /**
+     * Returns the unique index with given name.
+     *
+     * @param name the index name
+     * @param <K>  the key type
+     * @return an immutable map of keys to elements
+     * @throws IllegalArgumentException if there's no unique index with given name
+     */
+    public <K> Map<K, T> unique(String name) {
+        return index(name, Kind.UNIQUE);
+    }
+
+    /**
+     * Returns the multi-valued index with given name.
+     *
+     * @param name the index name
+     * @param <K>  the key type
+     * @return an immutable map of keys to immutable lists of elements, in collection order
+     * @throws IllegalArgumentException if there's no multi-valued index with given name
+     */
+    public <K> Map<K, List<T>> multi(String name) {
+        return index(name, Kind.MULTI);
+    }
+
+    /**
+     * Returns the sorted index with given name.
+     *
+     * @param name the index name
+     * @param <K>  the key type
+     * @return the sorted index
+     * @throws IllegalArgumentException if there's no sorted index with given name
+     */
+    public <K extends Comparable<? super K>> SortedIndex<K, T> sorted(String name) {
+        return index(name, Kind.SORTED);
+    }
+
+    /**
+     * Returns the unique {@code int} index with given name.
+     *
+     * @param name the index name
+     * @return an immutable map of keys to elements
+     * @throws IllegalArgumentException if there's no unique {@code int} index with given name
+     */
+    public IntMap<T> uniqueInt(String name) {
+        return index(name, Kind.UNIQUE_INT);
+    }
+
+    /**
+     * Returns the unique {@code long} index with given name.
+     *
+     * @param name the index name
+     * @return an immutable map of keys to elements
+     * @throws IllegalArgumentException if there's no unique {@code long} index with given name
+     */
+    public LongMap<T> uniqueLong(String name) {
+        return index(name, Kind.UNIQUE_LONG);
+    }
+
+    /**
+     * Returns the sorted {@code long} (or {@code int}) index with given name.
+     *
+     * @param name the index name
+     * @return the sorted index
+     * @throws IllegalArgumentException if there's no sorted {@code long} index with given name
+     */
+    public LongSortedIndex<T> sortedLong(String name) {
+        return index(name, Kind.SORTED_LONG);
+    }
+
+    /**
+     * Kind of index, checked when an index is retrieved by name.
+     */
+    private enum Kind {
+        UNIQUE, MULTI, SORTED, UNIQUE_INT, UNIQUE_LONG, SORTED_LONG
+    }
+
+    /**
+     * Built index along with its kind.
+     */
+    @RequiredArgsConstructor
+    private static final class Built {
+        private final Kind kind;
+        private final Object value;
+    }
+
+    /**
+     * Declared index, builds itself from the array of elements, either sequentially or in parallel.
+     */
+    @FunctionalInterface
+    private interface Definition {
+        Object build(Object[] elements, boolean parallel);
+    }
+
+    /**
+     * Builder for {@link Index}. Indexes are only built when {@link #build()} is called, each one in a single pass over
+     * the elements. In {@link #parallel()} mode, indexes are built concurrently and key extraction and sorting within
+     * every index is split across cores as well.
+     *
+     * @param <T> the element type
+     */
+    public static final class Builder<T> {
+
+        private final Collection<? extends T> elements;
+        private final Map<String, Kind> kinds = new LinkedHashMap<>();
+        private final Map<String, Definition> definitions = new LinkedHashMap<>();
+        private boolean parallel;
+
+        private Builder(Collection<? extends T> elements) {
+            this.elements = requireNonNull(elements);
+        }
+
+        private Builder<T> define(String name, Kind kind, Definition definition) {
+            if (kinds.containsKey(requireNonNull(name))) {
+                throw new IllegalArgumentException("Index named '" + name + "' is already defined.");
+            }
+            kinds.put(name, kind);
+            definitions.put(name, definition);
+            return this;
+        }
+
+        /**
+         * Adds an index mapping each key to a single element.
+         *
+         * @param name        the index name
+         * @param keyFunction the key function, must not return {@code null}
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public Builder<T> unique(String name, Function<? super T, ?> keyFunction) {
+            return define(name, Kind.UNIQUE, (elements, parallel) -> {
+                val keys = new Object[elements.length];
+                setAll(keys.length, parallel, i -> keys[i] = keyFunction.apply((T) elements[i]));
+                val builder = ImmutableMap.builderWithExpectedSize(elements.length);
+                for (int i = 0; i < elements.length; i++) {
+                    builder.put(keys[i], elements[i]);
+                }
+                return builder.build();
+            });
+        }
+
+        /**
+         * Adds an index mapping each key to the list of all elements with that key.
+         *
+         * @param name        the index name
+         * @param keyFunction the key function, must not return {@code null}
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public Builder<T> multi(String name, Function<? super T, ?> keyFunction) {
+            return define(name, Kind.MULTI, (elements, parallel) -> {
+                val stream = Arrays.stream((T[]) elements);
+                return ImmutableMap.copyOf((parallel ? stream.parallel() : stream)
+                        .collect(Collectors.groupingBy(keyFunction, ImmutableList.toImmutableList())));
+            });
+        }
+
+        /**
+         * Adds an index ordering elements by a comparable key.
+         *
+         * @param name        the index name
+         * @param keyFunction the key function, must not return {@code null}
+         * @param <K>         the key type
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public <K extends Comparable<? super K>> Builder<T> sorted(String name,
+                                                                  Function<? super T, ? extends K> keyFunction) {
+            return define(name, Kind.SORTED, (elements, parallel) -> {
+                val sorted = sort((T[]) elements, Comparator.comparing(keyFunction), parallel);
+                val keys = new Object[sorted.length];
+                setAll(keys.length, parallel, i -> keys[i] = keyFunction.apply(sorted[i]));
+                return new SortedIndex<K, T>(keys, sorted);
+            });
+        }
+
+        /**
+         * Adds an index mapping each {@code int} key to a single element.
+         *
+         * @param name        the index name
+         * @param keyFunction the key function
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public Builder<T> uniqueInt(String name, ToIntFunction<? super T> keyFunction) {
+            return define(name, Kind.UNIQUE_INT, (elements, parallel) -> {
+                val keys = new int[elements.length];
+                setAll(keys.length, parallel, i -> keys[i] = keyFunction.applyAsInt((T) elements[i]));
+                return new IntMap<T>(keys, elements);
+            });
+        }
+
+        /**
+         * Adds an index mapping each {@code long} key to a single element.
+         *
+         * @param name        the index name
+         * @param keyFunction the key function
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public Builder<T> uniqueLong(String name, ToLongFunction<? super T> keyFunction) {
+            return define(name, Kind.UNIQUE_LONG, (elements, parallel) -> {
+                val keys = new long[elements.length];
+                setAll(keys.length, parallel, i -> keys[i] = keyFunction.applyAsLong((T) elements[i]));
+                return new LongMap<T>(keys, elements);
+            });
+        }
+
+        /**
+         * Adds an index ordering elements by an {@code int} key. Retrieved through {@link Index#sortedLong(String)},
+         * keys are widened to {@code long}.
+         *
+         * @param name        the index name
+         * @param keyFunction the key function
+         * @return this builder
+         */
+        public Builder<T> sortedInt(String name, ToIntFunction<? super T> keyFunction) {
+            return sortedLong(name, element -> keyFunction.applyAsInt(element));
+        }
+
+        /**
+         * Adds an index ordering elements by a {@code long} key.
+         *
+         * @param name        the index name
+         * @param keyFunction the key function
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public Builder<T> sortedLong(String name, ToLongFunction<? super T> keyFunction) {
+            return define(name, Kind.SORTED_LONG, (elements, parallel) -> {
+                val sorted = sort((T[]) elements, Comparator.comparingLong(keyFunction), parallel);
+                val keys = new long[sorted.length];
+                setAll(keys.length, parallel, i -> keys[i] = keyFunction.applyAsLong(sorted[i]));
+                return new LongSortedIndex<T>(keys, sorted);
+            });
+        }
+
+        /**
+         * Builds indexes in parallel, worthwhile for collections of hundreds of thousands of elements or more.
+         *
+         * @return this builder
+         */
+        public Builder<T> parallel() {
+            this.parallel = true;
+            return this;
+        }
+
+        /**
+         * Builds all of the declared indexes.
+         *
+         * @return a new index
+         * @throws NullPointerException     if collection contains {@code null} elements or a key function of an
+         *                                  object index returns {@code null}
+         * @throws IllegalArgumentException if a unique index contains duplicate keys
+         */
+        public Index<T> build() {
+            val array = elements.toArray();
+            for (val element : array) {
+                requireNonNull(element, "Indexed elements can't be null.");
+            }
+
+            val names = definitions.keySet().stream();
+            val built = (parallel ? names.parallel() : names).collect(Collectors.toMap(Function.identity(),
+                    name -> new Built(kinds.get(name), definitions.get(name).build(array, parallel))));
+            return new Index<>(ImmutableMap.copyOf(built));
+        }
+
+        private static <T> T[] sort(T[] elements, Comparator<? super T> comparator, boolean parallel) {
+            val sorted = elements.clone();
+            if (parallel) {
+                Arrays.parallelSort(sorted, comparator);
+            } else {
+                Arrays.sort(sorted, comparator);
+            }
+            return sorted;
+        }
+
+        private static void setAll(int length, boolean parallel, IntConsumer setter) {
+            val range = IntStream.range(0, length);
+            (parallel ? range.parallel() : range).forEach(setter);
+        }
+
+    }
+
+}
@@ -0,0 +1,120 @@
+package dev.klepto.lazyvoids;
+
+import lombok.val;
+
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * An immutable map with primitive {@code int} keys. Keys are never boxed and lookups don't allocate. Backed by a
+ * {@link LongMap} of the same keys widened to {@code long}, which stores values in an array indexed by key if keys fall
+ * within a small range, otherwise in an open-addressing hash table. Usually created through
+ * {@link Maps#enumIntEntryMap(ToIntFunction)}.
+ *
+ * @param <V> the value type
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+public final class IntMap<V> implements IntFunction<V> {
+
+    private final LongMap<V> map;
+
+    /**
+     * Creates a new map from parallel key and value arrays.
+     *
+     * @param keys   the keys
+     * @param values the non-null values
+     * @throws IllegalArgumentException if keys contain duplicates
+     */
+    IntMap(int[] keys, Object[] values) {
+        val longKeys = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            longKeys[i] = keys[i];
+        }
+        this.map = new LongMap<>(longKeys, values);
+    }
+
+    /**
+     * Returns the value mapped to given key (if key isn't mapped, value will be {@code null}).
+     *
+     * @param key the key
+     * @return the mapped value or {@code null}
+     */
+    public V get(int key) {
+        return map.get(key);
+    }
+
+    /**
+     * Returns the value mapped to given key, same as {@link #get(int)}.
+     *
+     * @param key the key
+     * @return the mapped value or {@code null}
+     */
+    @Override
+    public V apply(int key) {
+        return get(key);
+    }
+
+    /**
+     * Returns true if given key is mapped to a value, otherwise false.
+     *
+     * @param key the key
+     * @return true if given key is mapped to a value, otherwise false
+     */
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns the number of mappings in this map.
+     *
+     * @return the number of mappings
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * If given key is mapped to a value, returns the value, otherwise returns other.
+     *
+     * @param key   the key
+     * @param other the value to be returned, if no value is present (may be {@code null})
+     * @return the value, if present, otherwise other
+     */
+    public V orElse(int key, V other) {
+        val result = get(key);
+        return result != null ? result : other;
+    }
+
+    /**
+     * If given key is mapped to a value, returns the value, otherwise returns the result produced by the supplying
+     * function.
+     *
+     * @param key      the key
+     * @param supplier the supplying function that produces a value to be returned
+     * @return the value, if present, otherwise the result produced by the supplying function
+     */
+    public V orElseGet(int key, Supplier<? extends V> supplier) {
+        val result = get(key);
+        return result != null ? result : supplier.get();
+    }
+
+    /**
+     * If given key is mapped to a value, returns the value, otherwise throws an throwable produced by the throwable
+     * supplying function.
+     *
+     * @param key               the key
+     * @param throwableSupplier the supplying function that produces an throwable to be thrown
+     * @param <X>               type of the exception to be thrown
+     * @return the value, if present
+     * @throws X if no value is present
+     */
+    public <X extends Throwable> V orElseThrow(int key, Supplier<? extends X> throwableSupplier) throws X {
+        val result = get(key);
+        if (result == null) {
+            throw throwableSupplier.get();
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,191 @@
+package dev.klepto.lazyvoids;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.function.*;
+
+/**
+ * A {@link When} container specialized for {@code int} keys. Keys are compared as primitives, so neither the key
+ * nor the branch constants are ever boxed, and the only allocation of a chain is the container of the matched branch.
+ *
+ * <pre>{@code
+ * String status = when(statusCode)
+ *         .map(200, "ok")
+ *         .map(404, "not found")
+ *         .orElse("unknown");
+ * }</pre>
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ * @see When
+ */
+@EqualsAndHashCode(callSuper = true)
+public final class IntWhen<V> extends WhenResult<V> {
+
+    private final int key;
+
+    IntWhen(int key, V result) {
+        super(result);
+        this.key = key;
+    }
+
+    /**
+     * Creates a new mapping for key-value pair, if given key equals to key of this container, a new when container
+     * will be created with given value as the result. Otherwise {@code this} is returned.
+     *
+     * @param key   the mapping key
+     * @param value the mapping value
+     * @param <T>   generic type to infer value type for future calls of this method
+     * @return this or new when object if key matched the key of this container
+     * @see When#map(Object, Object)
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends V> IntWhen<T> map(int key, T value) {
+        if (this.key == key) {
+            return new IntWhen<>(key, value);
+        }
+
+        return (IntWhen<T>) this;
+    }
+
+    /**
+     * Creates a new lazy mapping for key-value pair, the value is only computed if given key equals to key of this
+     * container and this container doesn't have a result yet. Unlike {@link #map(int, Object)}, it never replaces an
+     * earlier match.
+     *
+     * @param key      the mapping key
+     * @param supplier the supplying function that produces the mapping value
+     * @param <T>      generic type to infer value type for future calls of this method
+     * @return this or new when object if key matched the key of this container
+     * @see When#mapGet(Object, Supplier)
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends V> IntWhen<T> mapGet(int key, Supplier<? extends T> supplier) {
+        if (isEmpty() && this.key == key) {
+            return new IntWhen<>(key, supplier.get());
+        }
+
+        return (IntWhen<T>) this;
+    }
+
+    /**
+     * Creates a new lazy mapping for keys that match given predicate, the value is only computed if predicate matches
+     * and this container doesn't have a result yet. Unlike {@link #map(int, Object)}, it never replaces an earlier
+     * match.
+     *
+     * @param predicate the predicate to test the key of this container with
+     * @param function  the function that produces the mapping value from the key of this container
+     * @param <T>       generic type to infer value type for future calls of this method
+     * @return this or new when object if predicate matched the key of this container
+     * @see When#mapIf(Predicate, Function)
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends V> IntWhen<T> mapIf(IntPredicate predicate, IntFunction<? extends T> function) {
+        if (isEmpty() && predicate.test(key)) {
+            return new IntWhen<>(key, function.apply(key));
+        }
+
+        return (IntWhen<T>) this;
+    }
+
+    /**
+     * Creates a new mapping for a range of keys, if key of this container is within given range, a new when container
+     * will be created with given value as the result. Otherwise {@code this} is returned.
+     *
+     * @param from  the lower bound of the range (inclusive)
+     * @param to    the upper bound of the range (exclusive)
+     * @param value the mapping value
+     * @param <T>   generic type to infer value type for future calls of this method
+     * @return this or new when object if key of this container is within the range
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends V> IntWhen<T> mapRange(int from, int to, T value) {
+        if (key >= from && key < to) {
+            return new IntWhen<>(key, value);
+        }
+
+        return (IntWhen<T>) this;
+    }
+
+    /**
+     * Creates a new mapping for keys greater or equal to given threshold. Like the other eager mappings ({@code map},
+     * {@code mapRange} and {@code mapBelow}), a later match replaces the result of an earlier one (lazy
+     * {@code mapGet} and {@code mapIf} keep the first match instead), so tiers can be listed in ascending order.
+     *
+     * @param threshold the lowest matching key (inclusive)
+     * @param value     the mapping value
+     * @param <T>       generic type to infer value type for future calls of this method
+     * @return this or new when object if key of this container is at least the threshold
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends V> IntWhen<T> mapAtLeast(int threshold, T value) {
+        if (key >= threshold) {
+            return new IntWhen<>(key, value);
+        }
+
+        return (IntWhen<T>) this;
+    }
+
+    /**
+     * Creates a new mapping for keys less than given threshold.
+     *
+     * @param threshold the upper bound of matching keys (exclusive)
+     * @param value     the mapping value
+     * @param <T>       generic type to infer value type for future calls of this method
+     * @return this or new when object if key of this container is below the threshold
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends V> IntWhen<T> mapBelow(int threshold, T value) {
+        if (key < threshold) {
+            return new IntWhen<>(key, value);
+        }
+
+        return (IntWhen<T>) this;
+    }
+
+    /**
+     * Creates a new mapping for key and primitive {@code int} value pair, turning this container into an
+     * {@code int} result container. Only available before the first mapping with a reference value.
+     *
+     * @param key   the mapping key
+     * @param value the mapping value
+     * @return a new when container with primitive {@code int} result
+     * @throws IllegalStateException if a mapping with a reference value has already matched
+     */
+    public ToInt mapInt(int key, int value) {
+        checkNoResult();
+        return new ToInt(this.key, false, 0).mapInt(key, value);
+    }
+
+    /**
+     * A when container with {@code int} key and primitive {@code int} result, neither keys nor results are boxed.
+     */
+    @EqualsAndHashCode(callSuper = true)
+    public static final class ToInt extends IntWhenResult {
+
+        private final int key;
+
+        private ToInt(int key, boolean present, int result) {
+            super(present, result);
+            this.key = key;
+        }
+
+        /**
+         * Creates a new mapping for key and value pair, if given key equals to key of this container, a new when
+         * container will be created with given value as the result. Otherwise {@code this} is returned.
+         *
+         * @param key   the mapping key
+         * @param value the mapping value
+         * @return this or new when object if key matched the key of this container
+         */
+        public ToInt mapInt(int key, int value) {
+            if (this.key == key) {
+                return new ToInt(key, true, value);
+            }
+
+            return this;
+        }
+
+    }
+
+}
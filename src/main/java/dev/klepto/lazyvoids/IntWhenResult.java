@@ -0,0 +1,107 @@
+package dev.klepto.lazyvoids;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Primitive {@code int} result of the {@code ToInt} when containers ({@link When.ToInt}, {@link IntWhen.ToInt},
+ * {@link LongWhen.ToInt} and {@link CharWhen.ToInt}). Holds the result and its accessors, while the subclasses hold
+ * the key and the mappings.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@EqualsAndHashCode
+abstract class IntWhenResult {
+
+    final boolean present;
+    final int result;
+
+    IntWhenResult(boolean present, int result) {
+        this.present = present;
+        this.result = result;
+    }
+
+    /**
+     * Returns true if result value is present, otherwise false.
+     *
+     * @return true if key matched any of the mappings, otherwise false
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * Returns true if result value is not present, otherwise false.
+     *
+     * @return true if key didn't match any of the mappings, otherwise false
+     */
+    public boolean isEmpty() {
+        return !present;
+    }
+
+    /**
+     * Returns the result value.
+     *
+     * @return the result value
+     * @throws NoSuchElementException if no value is present
+     */
+    public int getAsInt() {
+        if (!present) {
+            throw new NoSuchElementException("No value present");
+        }
+        return result;
+    }
+
+    /**
+     * If a value is present, performs the given action with the value, otherwise does nothing.
+     *
+     * @param action the action to be performed, if a value is present
+     */
+    public void ifPresent(IntConsumer action) {
+        if (present) {
+            action.accept(result);
+        }
+    }
+
+    /**
+     * If a value is present, returns the value, otherwise returns other.
+     *
+     * @param other the value to be returned, if no value is present
+     * @return the value, if present, otherwise other
+     */
+    public int orElse(int other) {
+        return present ? result : other;
+    }
+
+    /**
+     * If a value is present, returns the value, otherwise returns the result produced by the supplying function.
+     *
+     * @param supplier the supplying function that produces a value to be returned
+     * @return the value, if present, otherwise the result produced by the supplying function
+     */
+    public int orElseGet(IntSupplier supplier) {
+        return present ? result : supplier.getAsInt();
+    }
+
+    /**
+     * If a value is present, returns the value, otherwise throws an throwable produced by the throwable supplying
+     * function.
+     *
+     * @param throwableSupplier the supplying function that produces an throwable to be thrown
+     * @param <X>               type of the exception to be thrown
+     * @return the value, if present
+     * @throws X if no value is present
+     */
+    public <X extends Throwable> int orElseThrow(Supplier<? extends X> throwableSupplier) throws X {
+        if (!present) {
+            throw throwableSupplier.get();
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,81 @@
+package dev.klepto.lazyvoids;
+
+import lombok.val;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A lazily computed {@code long} value, computed at most once on first access and cached afterwards. The primitive
+ * counterpart of {@link Lazy}, the value is never boxed. Initialization is synchronized, so concurrent first accesses
+ * compute the value only once. Once computed, the value is published through a final field of an immutable holder:
+ * every later read is a plain (non-volatile) load of the holder and its field, with no locking or memory barriers. If
+ * the supplier throws, nothing is cached and the next access tries again. Created through
+ * {@link Functions#lazyLong(LongSupplier)}.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+public final class LazyLong implements LongSupplier {
+
+    private final LongSupplier supplier;
+    private Value value;
+
+    LazyLong(LongSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Returns the value, computing it first if it wasn't computed yet.
+     *
+     * @return the value
+     */
+    @Override
+    public long getAsLong() {
+        val value = this.value;
+        return value != null ? value.value : initialize();
+    }
+
+    private synchronized long initialize() {
+        if (value == null) {
+            value = new Value(supplier.getAsLong());
+        }
+        return value.value;
+    }
+
+    /**
+     * Returns true if the value was already computed, otherwise false.
+     *
+     * @return true if the value was already computed, otherwise false
+     */
+    public boolean isInitialized() {
+        return value != null;
+    }
+
+    /**
+     * Discards the computed value, so it will be computed again on next access. Threads that synchronize with the
+     * resetting thread afterwards are guaranteed to recompute, other threads may keep reading the previous value for a
+     * short while, the same way they would with a plain (non-volatile) field.
+     */
+    public synchronized void reset() {
+        value = null;
+    }
+
+    @Override
+    public String toString() {
+        val value = this.value;
+        return value != null ? "LazyLong[" + value.value + "]" : "LazyLong[not initialized]";
+    }
+
+    /**
+     * Immutable holder of the computed value, its final field guarantees that any thread that sees the holder also
+     * sees the value.
+     */
+    private static final class Value {
+        private final long value;
+
+        private Value(long value) {
+            this.value = value;
+        }
+    }
+
+}
@@ -0,0 +1,178 @@
+package dev.klepto.lazyvoids;
+
+import lombok.val;
+
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * An immutable map with primitive {@code long} keys. Keys are never boxed and lookups don't allocate. If keys fall
+ * within a small range, values are stored in an array indexed by key, otherwise in an open-addressing hash table.
+ * Usually created through {@link Maps#enumLongEntryMap(ToLongFunction)}.
+ *
+ * @param <V> the value type
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+public final class LongMap<V> implements LongFunction<V> {
+
+    private static final int MAX_DENSE_RANGE = 1 << 16;
+
+    private final int size;
+    private final long offset;
+    private final long[] keys;
+    private final Object[] values;
+
+    /**
+     * Creates a new map from parallel key and value arrays.
+     *
+     * @param keys   the keys
+     * @param values the non-null values
+     * @throws IllegalArgumentException if keys contain duplicates
+     */
+    LongMap(long[] keys, Object[] values) {
+        this.size = keys.length;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (val key : keys) {
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+        }
+
+        val range = max - min + 1;
+        if (size > 0 && range > 0 && range <= MAX_DENSE_RANGE && range <= Math.max(64, 4L * size)) {
+            this.offset = min;
+            this.keys = null;
+            this.values = new Object[(int) range];
+            for (int i = 0; i < size; i++) {
+                val index = (int) (keys[i] - offset);
+                checkDuplicate(keys[i], this.values[index], values[i]);
+                this.values[index] = values[i];
+            }
+            return;
+        }
+
+        this.offset = 0;
+        val capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        for (int i = 0; i < size; i++) {
+            int index = index(keys[i]);
+            while (this.values[index] != null) {
+                if (this.keys[index] == keys[i]) {
+                    checkDuplicate(keys[i], this.values[index], values[i]);
+                }
+                index = (index + 1) & (capacity - 1);
+            }
+            this.keys[index] = keys[i];
+            this.values[index] = values[i];
+        }
+    }
+
+    private static void checkDuplicate(long key, Object existing, Object value) {
+        if (existing != null) {
+            throw new IllegalArgumentException("Duplicate key " + key + " (attempted mapping to " + existing
+                    + " and " + value + ").");
+        }
+    }
+
+    private int index(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> (64 - Integer.numberOfTrailingZeros(keys.length)));
+    }
+
+    /**
+     * Returns the value mapped to given key (if key isn't mapped, value will be {@code null}).
+     *
+     * @param key the key
+     * @return the mapped value or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (keys == null) {
+            val index = key - offset;
+            return index >= 0 && index < values.length ? (V) values[(int) index] : null;
+        }
+
+        val mask = keys.length - 1;
+        for (int index = index(key); values[index] != null; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                return (V) values[index];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value mapped to given key, same as {@link #get(long)}.
+     *
+     * @param key the key
+     * @return the mapped value or {@code null}
+     */
+    @Override
+    public V apply(long key) {
+        return get(key);
+    }
+
+    /**
+     * Returns true if given key is mapped to a value, otherwise false.
+     *
+     * @param key the key
+     * @return true if given key is mapped to a value, otherwise false
+     */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns the number of mappings in this map.
+     *
+     * @return the number of mappings
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * If given key is mapped to a value, returns the value, otherwise returns other.
+     *
+     * @param key   the key
+     * @param other the value to be returned, if no value is present (may be {@code null})
+     * @return the value, if present, otherwise other
+     */
+    public V orElse(long key, V other) {
+        val result = get(key);
+        return result != null ? result : other;
+    }
+
+    /**
+     * If given key is mapped to a value, returns the value, otherwise returns the result produced by the supplying
+     * function.
+     *
+     * @param key      the key
+     * @param supplier the supplying function that produces a value to be returned
+     * @return the value, if present, otherwise the result produced by the supplying function
+     */
+    public V orElseGet(long key, Supplier<? extends V> supplier) {
+        val result = get(key);
+        return result != null ? result : supplier.get();
+    }
+
+    /**
+     * If given key is mapped to a value, returns the value, otherwise throws an throwable produced by the throwable
+     * supplying function.
+     *
+     * @param key               the key
+     * @param throwableSupplier the supplying function that produces an throwable to be thrown
+     * @param <X>               type of the exception to be thrown
+     * @return the value, if present
+     * @throws X if no value is present
+     */
+    public <X extends Throwable> V orElseThrow(long key, Supplier<? extends X> throwableSupplier) throws X {
+        val result = get(key);
+        if (result == null) {
+            throw throwableSupplier.get();
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,261 @@
+package dev.klepto.lazyvoids;
+
+import lombok.val;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * An immutable, precompiled table of non-overlapping primitive key ranges, the compiled counterpart of
+ * {@link IntWhen#mapRange(int, int, Object)} and {@link LongWhen#mapRange(long, long, Object)} chains. Ranges are
+ * sorted once when the table is built and resolved with binary search. If all ranges are bounded and span a small key
+ * domain, every key of the domain is resolved up front into a lookup array instead. Keys are never boxed and lookups
+ * don't allocate.
+ *
+ * <pre>{@code
+ * private static final LongRangeTable<String> PRICE_TIERS = When.<String>longRangeTable()
+ *         .mapRange(0, 10, "cheap")
+ *         .mapRange(10, 100, "pricey")
+ *         .mapAtLeast(100, "luxury")
+ *         .build();
+ * }</pre>
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ * @see RangeTable
+ */
+public final class LongRangeTable<V> implements LongFunction<V> {
+
+    private static final int MAX_LOOKUP_DOMAIN = 4096;
+
+    private final long[] firstKeys;
+    private final long[] lastKeys;
+    private final Object[] values;
+    private final long lookupOffset;
+    private final Object[] lookup;
+
+    private LongRangeTable(long[] firstKeys, long[] lastKeys, Object[] values) {
+        this.firstKeys = firstKeys;
+        this.lastKeys = lastKeys;
+        this.values = values;
+
+        val size = firstKeys.length;
+        if (size > 0 && lastKeys[size - 1] - firstKeys[0] >= 0
+                && lastKeys[size - 1] - firstKeys[0] < MAX_LOOKUP_DOMAIN) {
+            this.lookupOffset = firstKeys[0];
+            this.lookup = new Object[(int) (lastKeys[size - 1] - firstKeys[0] + 1)];
+            for (int i = 0; i < size; i++) {
+                Arrays.fill(lookup, (int) (firstKeys[i] - lookupOffset), (int) (lastKeys[i] - lookupOffset + 1),
+                        values[i]);
+            }
+        } else {
+            this.lookupOffset = 0;
+            this.lookup = null;
+        }
+    }
+
+    /**
+     * Creates a new range table builder. Usually accessed through {@link When#longRangeTable()}.
+     *
+     * @param <V> the value type
+     * @return a new range table builder
+     */
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the value of the range that contains given key (if key isn't within any range, value will be
+     * {@code null}).
+     *
+     * @param key the key
+     * @return the mapped value or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (lookup != null) {
+            val index = key - lookupOffset;
+            return index >= 0 && index < lookup.length ? (V) lookup[(int) index] : null;
+        }
+
+        // find the last range that starts at or before the key
+        int low = 0;
+        int high = firstKeys.length - 1;
+        while (low <= high) {
+            val middle = (low + high) >>> 1;
+            if (firstKeys[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high >= 0 && key <= lastKeys[high] ? (V) values[high] : null;
+    }
+
+    /**
+     * Returns the value of the range that contains given key, same as {@link #get(long)}.
+     *
+     * @param key the key
+     * @return the mapped value or {@code null}
+     */
+    @Override
+    public V apply(long key) {
+        return get(key);
+    }
+
+    /**
+     * Returns true if given key is within any of the ranges mapped to a non-null value, otherwise false.
+     *
+     * @param key the key
+     * @return true if a value is present for given key, otherwise false
+     */
+    public boolean isPresent(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * If given key is within any of the ranges, returns it's value, otherwise returns other.
+     *
+     * @param key   the key
+     * @param other the value to be returned, if no value is present (may be {@code null})
+     * @return the value, if present, otherwise other
+     */
+    public V orElse(long key, V other) {
+        val result = get(key);
+        return result != null ? result : other;
+    }
+
+    /**
+     * If given key is within any of the ranges, returns it's value, otherwise returns the result produced by the
+     * supplying function.
+     *
+     * @param key      the key
+     * @param supplier the supplying function that produces a value to be returned
+     * @return the value, if present, otherwise the result produced by the supplying function
+     */
+    public V orElseGet(long key, Supplier<? extends V> supplier) {
+        val result = get(key);
+        return result != null ? result : supplier.get();
+    }
+
+    /**
+     * If given key is within any of the ranges, returns it's value, otherwise throws an throwable produced by the
+     * throwable supplying function.
+     *
+     * @param key               the key
+     * @param throwableSupplier the supplying function that produces an throwable to be thrown
+     * @param <X>               type of the exception to be thrown
+     * @return the value, if present
+     * @throws X if no value is present
+     */
+    public <X extends Throwable> V orElseThrow(long key, Supplier<? extends X> throwableSupplier) throws X {
+        val result = get(key);
+        if (result == null) {
+            throw throwableSupplier.get();
+        }
+        return result;
+    }
+
+    /**
+     * Builder for {@link LongRangeTable}. Ranges may be added in any order, but they must not overlap.
+     *
+     * @param <V> the value type
+     */
+    public static final class Builder<V> {
+
+        private long[] firstKeys = new long[16];
+        private long[] lastKeys = new long[16];
+        private Object[] values = new Object[16];
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a mapping for a range of keys.
+         *
+         * @param from  the lower bound of the range (inclusive)
+         * @param to    the upper bound of the range (exclusive)
+         * @param value the mapping value
+         * @param <T>   generic type to infer value type for future calls of this method
+         * @return this builder
+         * @throws IllegalArgumentException if the range is empty
+         */
+        public <T extends V> Builder<T> mapRange(long from, long to, T value) {
+            if (from >= to) {
+                throw new IllegalArgumentException("Empty range: [" + from + ", " + to + ")");
+            }
+            return add(from, to - 1, value);
+        }
+
+        /**
+         * Adds a mapping for keys greater or equal to given threshold.
+         *
+         * @param threshold the lowest matching key (inclusive)
+         * @param value     the mapping value
+         * @param <T>       generic type to infer value type for future calls of this method
+         * @return this builder
+         */
+        public <T extends V> Builder<T> mapAtLeast(long threshold, T value) {
+            return add(threshold, Long.MAX_VALUE, value);
+        }
+
+        /**
+         * Adds a mapping for keys less than given threshold.
+         *
+         * @param threshold the upper bound of matching keys (exclusive)
+         * @param value     the mapping value
+         * @param <T>       generic type to infer value type for future calls of this method
+         * @return this builder
+         * @throws IllegalArgumentException if the threshold is {@link Long#MIN_VALUE}
+         */
+        public <T extends V> Builder<T> mapBelow(long threshold, T value) {
+            return mapRange(Long.MIN_VALUE, threshold, value);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T extends V> Builder<T> add(long first, long last, T value) {
+            if (size == firstKeys.length) {
+                firstKeys = Arrays.copyOf(firstKeys, size * 2);
+                lastKeys = Arrays.copyOf(lastKeys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            firstKeys[size] = first;
+            lastKeys[size] = last;
+            values[size] = value;
+            size++;
+            return (Builder<T>) this;
+        }
+
+        /**
+         * Builds an immutable range table.
+         *
+         * @return a new range table
+         * @throws IllegalArgumentException if any of the ranges overlap
+         */
+        public LongRangeTable<V> build() {
+            val order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (left, right) -> Long.compare(firstKeys[left], firstKeys[right]));
+
+            val sortedFirstKeys = new long[size];
+            val sortedLastKeys = new long[size];
+            val sortedValues = new Object[size];
+            for (int i = 0; i < size; i++) {
+                sortedFirstKeys[i] = firstKeys[order[i]];
+                sortedLastKeys[i] = lastKeys[order[i]];
+                sortedValues[i] = values[order[i]];
+                if (i > 0 && sortedLastKeys[i - 1] >= sortedFirstKeys[i]) {
+                    throw new IllegalArgumentException("Overlapping ranges: [" + sortedFirstKeys[i - 1] + ", "
+                            + sortedLastKeys[i - 1] + "] and [" + sortedFirstKeys[i] + ", " + sortedLastKeys[i] + "]");
+                }
+            }
+            return new LongRangeTable<>(sortedFirstKeys, sortedLastKeys, sortedValues);
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+package dev.klepto.lazyvoids;
+
+import lombok.val;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable index of elements sorted by a primitive {@code long} key, the primitive counterpart of
+ * {@link SortedIndex}. Keys are never boxed. Created through
+ * {@link Index.Builder#sortedLong(String, java.util.function.ToLongFunction)} or
+ * {@link Index.Builder#sortedInt(String, java.util.function.ToIntFunction)}.
+ *
+ * @param <T> the element type
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ * @see SortedIndex
+ */
+public final class LongSortedIndex<T> {
+
+    private final long[] keys;
+    private final List<T> elements;
+
+    @SuppressWarnings("unchecked")
+    LongSortedIndex(long[] keys, Object[] elements) {
+        this.keys = keys;
+        this.elements = Collections.unmodifiableList(Arrays.asList((T[]) elements));
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            val middle = (low + high) >>> 1;
+            if (keys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            val middle = (low + high) >>> 1;
+            if (keys[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns all elements with key equal to given key.
+     *
+     * @param key the key
+     * @return a read-only list of matching elements, empty if there are none
+     */
+    public List<T> get(long key) {
+        return elements.subList(lowerBound(key), upperBound(key));
+    }
+
+    /**
+     * Returns all elements with key within given range, ordered by key.
+     *
+     * @param fromInclusive the lower bound of the range (inclusive)
+     * @param toExclusive   the upper bound of the range (exclusive)
+     * @return a read-only list of matching elements, empty if there are none
+     */
+    public List<T> range(long fromInclusive, long toExclusive) {
+        val from = lowerBound(fromInclusive);
+        return elements.subList(from, Math.max(from, lowerBound(toExclusive)));
+    }
+
+    /**
+     * Returns all elements with key greater than or equal to given key, ordered by key.
+     *
+     * @param fromInclusive the lower bound of the range (inclusive)
+     * @return a read-only list of matching elements, empty if there are none
+     */
+    public List<T> atLeast(long fromInclusive) {
+        return elements.subList(lowerBound(fromInclusive), elements.size());
+    }
+
+    /**
+     * Returns all elements with key less than given key, ordered by key.
+     *
+     * @param toExclusive the upper bound of the range (exclusive)
+     * @return a read-only list of matching elements, empty if there are none
+     */
+    public List<T> below(long toExclusive) {
+        return elements.subList(0, lowerBound(toExclusive));
+    }
+
+    /**
+     * Returns all indexed elements, ordered by key.
+     *
+     * @return a read-only list of all elements
+     */
+    public List<T> all() {
+        return elements;
+    }
+
+    /**
+     * Returns the number of indexed elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return elements.size();
+    }
+
+}
@@ -0,0 +1,348 @@
+package dev.klepto.lazyvoids;
+
+import lombok.val;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable map read directly from a memory-mapped file. Opening the file maps it into memory and validates the
+ * header, nothing else is read up front: entries stay off-heap in the page cache (shared by every process that maps
+ * the same file) and are decoded only when they're looked up or iterated. Created through
+ * {@link Maps#writeMapped(Map, Path)} and {@link Maps#loadMapped(Path)}.
+ * <p>
+ * Keys and values may be {@link String}, {@link Integer}, {@link Long}, {@link Double} or {@code byte[]}. Every value
+ * is encoded as a one byte type tag followed by its big-endian payload (strings in UTF-8), so byte arrays are compared
+ * by content. The file consists of:
+ * <ul>
+ * <li>a header of magic number, format version, entry count and slot count ({@code int} each);</li>
+ * <li>an open-addressing hash index of {@code slotCount} slots, each an {@code int} hash of the encoded key followed by
+ * an {@code int} file offset of the entry ({@code 0} for empty slots);</li>
+ * <li>entries, each an {@code int} length and bytes of encoded key followed by the same of encoded value.</li>
+ * </ul>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+final class MappedMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int MAGIC = 0x4C564D4D;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int SLOT_SIZE = 8;
+
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BYTES = 5;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int slotCount;
+
+    private MappedMap(ByteBuffer buffer, int size, int slotCount) {
+        this.buffer = buffer;
+        this.size = size;
+        this.slotCount = slotCount;
+    }
+
+    /**
+     * Writes given map to a file, atomically replacing any existing file.
+     *
+     * @param map  the map to be written
+     * @param path the file path
+     * @throws IOException              if an I/O error occurs
+     * @throws NullPointerException     if map contains a {@code null} key or value
+     * @throws IllegalArgumentException if map contains unsupported key or value types
+     */
+    static void write(Map<?, ?> map, Path path) throws IOException {
+        val size = map.size();
+        val slotCount = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+        val encodedKeys = new byte[size][];
+        val encodedValues = new byte[size][];
+        val hashes = new int[slotCount];
+        val offsets = new int[slotCount];
+
+        long offset = HEADER_SIZE + (long) slotCount * SLOT_SIZE;
+        int index = 0;
+        for (val entry : map.entrySet()) {
+            val key = encode(requireNonNull(entry.getKey(), "Map keys can't be null."));
+            val value = encode(requireNonNull(entry.getValue(), "Map values can't be null."));
+            if (offset > Integer.MAX_VALUE) {
+                throw new IOException("Map is too large to be memory-mapped.");
+            }
+            val hash = hash(key);
+            int slot = hash & (slotCount - 1);
+            while (offsets[slot] != 0) {
+                slot = (slot + 1) & (slotCount - 1);
+            }
+            hashes[slot] = hash;
+            offsets[slot] = (int) offset;
+            encodedKeys[index] = key;
+            encodedValues[index] = value;
+            offset += 8 + key.length + value.length;
+            index++;
+        }
+        if (offset > Integer.MAX_VALUE) {
+            throw new IOException("Map is too large to be memory-mapped.");
+        }
+
+        // Other processes may have the existing file mapped, truncating it would crash their reads. Write a new file
+        // next to it instead and swap it in, processes that mapped the old one keep reading the old one.
+        val directory = path.toAbsolutePath().getParent();
+        val temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (val output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(size);
+                output.writeInt(slotCount);
+                for (int slot = 0; slot < slotCount; slot++) {
+                    output.writeInt(hashes[slot]);
+                    output.writeInt(offsets[slot]);
+                }
+                for (int i = 0; i < size; i++) {
+                    output.writeInt(encodedKeys[i].length);
+                    output.write(encodedKeys[i]);
+                    output.writeInt(encodedValues[i].length);
+                    output.write(encodedValues[i]);
+                }
+            }
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Maps given file into memory. The file must not be modified while the map is in use.
+     *
+     * @param path the file path
+     * @param <K>  the key type
+     * @param <V>  the value type
+     * @return a new map backed by the file
+     * @throws IOException if an I/O error occurs or file is not a mapped map file
+     */
+    static <K, V> MappedMap<K, V> load(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (val channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Not a mapped map file: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        val size = buffer.getInt(8);
+        val slotCount = buffer.getInt(12);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || size < 0 || Integer.bitCount(slotCount) != 1
+                || HEADER_SIZE + (long) slotCount * SLOT_SIZE > buffer.capacity()) {
+            throw new IOException("Not a mapped map file: " + path);
+        }
+        return new MappedMap<>(buffer, size, slotCount);
+    }
+
+    private static byte[] encode(Object value) {
+        if (value instanceof String) {
+            val string = (String) value;
+            val ascii = encodeAscii(string);
+            if (ascii != null) {
+                return ascii;
+            }
+            val bytes = string.getBytes(StandardCharsets.UTF_8);
+            val encoded = new byte[bytes.length + 1];
+            encoded[0] = STRING;
+            System.arraycopy(bytes, 0, encoded, 1, bytes.length);
+            return encoded;
+        } else if (value instanceof Integer) {
+            return ByteBuffer.allocate(5).put(INTEGER).putInt((Integer) value).array();
+        } else if (value instanceof Long) {
+            return ByteBuffer.allocate(9).put(LONG).putLong((Long) value).array();
+        } else if (value instanceof Double) {
+            return ByteBuffer.allocate(9).put(DOUBLE).putDouble((Double) value).array();
+        } else if (value instanceof byte[]) {
+            val bytes = (byte[]) value;
+            val encoded = new byte[bytes.length + 1];
+            encoded[0] = BYTES;
+            System.arraycopy(bytes, 0, encoded, 1, bytes.length);
+            return encoded;
+        }
+        throw new IllegalArgumentException("Unsupported mapped map type: " + value.getClass().getName());
+    }
+
+    private static byte[] encodeAscii(String string) {
+        val encoded = new byte[string.length() + 1];
+        encoded[0] = STRING;
+        for (int i = 0; i < string.length(); i++) {
+            val character = string.charAt(i);
+            if (character >= 0x80) {
+                return null;
+            }
+            encoded[i + 1] = (byte) character;
+        }
+        return encoded;
+    }
+
+    private Object decode(int offset) {
+        val length = buffer.getInt(offset);
+        val tag = buffer.get(offset + 4);
+        val payload = offset + 5;
+        switch (tag) {
+            case STRING:
+                return new String(bytes(payload, length - 1), StandardCharsets.UTF_8);
+            case INTEGER:
+                return buffer.getInt(payload);
+            case LONG:
+                return buffer.getLong(payload);
+            case DOUBLE:
+                return buffer.getDouble(payload);
+            case BYTES:
+                return bytes(payload, length - 1);
+            default:
+                throw new IllegalStateException("Corrupted mapped map entry at offset " + offset + ".");
+        }
+    }
+
+    private byte[] bytes(int offset, int length) {
+        val bytes = new byte[length];
+        val view = buffer.duplicate();
+        view.position(offset);
+        view.get(bytes);
+        return bytes;
+    }
+
+    private static int hash(byte[] bytes) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < bytes.length; i++) {
+            hash = (hash ^ bytes[i]) * 0x01000193;
+        }
+        hash = (hash ^ (hash >>> 16)) * 0x85EBCA6B;
+        hash = (hash ^ (hash >>> 13)) * 0xC2B2AE35;
+        return hash ^ (hash >>> 16);
+    }
+
+    private int offsetOf(Object key) {
+        if (!(key instanceof String || key instanceof Integer || key instanceof Long || key instanceof Double
+                || key instanceof byte[])) {
+            return 0;
+        }
+
+        val encoded = encode(key);
+        val hash = hash(encoded);
+        val mask = slotCount - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            val position = HEADER_SIZE + slot * SLOT_SIZE;
+            val offset = buffer.getInt(position + 4);
+            if (offset == 0) {
+                return 0;
+            }
+            if (buffer.getInt(position) == hash && matches(offset, encoded)) {
+                return offset;
+            }
+        }
+    }
+
+    private boolean matches(int offset, byte[] encoded) {
+        if (buffer.getInt(offset) != encoded.length) {
+            return false;
+        }
+        for (int i = 0; i < encoded.length; i++) {
+            if (buffer.get(offset + 4 + i) != encoded[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int valueOffset(int offset) {
+        return offset + 4 + buffer.getInt(offset);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        val offset = offsetOf(key);
+        return offset != 0 ? (V) decode(valueOffset(offset)) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return offsetOf(key) != 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Read-only iterator over map entries, in hash index order. Entries are decoded as they're visited.
+     */
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private int slot = nextSlot(0);
+
+        private int nextSlot(int slot) {
+            while (slot < slotCount && buffer.getInt(HEADER_SIZE + slot * SLOT_SIZE + 4) == 0) {
+                slot++;
+            }
+            return slot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot < slotCount;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            val offset = buffer.getInt(HEADER_SIZE + slot * SLOT_SIZE + 4);
+            slot = nextSlot(slot + 1);
+            return new SimpleImmutableEntry<>((K) decode(offset), (V) decode(valueOffset(offset)));
+        }
+
+    }
+
+}
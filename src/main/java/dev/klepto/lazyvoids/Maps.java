@@ -4,9 +4,17 @@ import com.google.common.collect.ImmutableMap;
 import lombok.val;
 import net.jodah.typetools.TypeResolver;
 
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 import static dev.klepto.lazyvoids.Functions.self;
@@ -14,15 +22,29 @@ import static dev.klepto.lazyvoids.Functions.self;
 /**
  * Utilities for creating small immutable maps in a non-verbose manner. Not very performance efficient, might wanna
  * buy more CPU cores if you are serious about using this.
+ * <p>
+ * Maps created by {@code map(...)} literals don't permit {@code null} keys or values, throw
+ * {@link UnsupportedOperationException} on any modification and are serialized as Guava {@link ImmutableMap}s. Only
+ * literals of more than 8 entries are {@link ImmutableMap} instances themselves, smaller ones are backed by a compact
+ * array, so callers should rely on the {@link Map} interface alone.
  *
  * @author <a href="https://klepto.dev/">Augustinas R.</a>
  * @since 0.1
  */
 public final class Maps {
 
+    private static final ClassValue<EnumEntryMapCache> enumEntryMapCaches = new ClassValue<EnumEntryMapCache>() {
+        @Override
+        protected EnumEntryMapCache computeValue(Class<?> functionType) {
+            return new EnumEntryMapCache(functionType);
+        }
+    };
+
     /**
      * Creates an immutable map from given enumeration method reference, using the method reference as key and
-     * enumeration entry itself as the value.
+     * enumeration entry itself as the value. Enumeration type is resolved reflectively from the method reference only
+     * once per call site. Maps created from stateless functions (method references and non-capturing lambdas) are
+     * cached, repeated calls return the same map instance.
      *
      * @param keyFunction the key function of enumeration
      * @param <K>         the generic key type
@@ -31,28 +53,156 @@ public final class Maps {
      */
     @SuppressWarnings("unchecked")
     public static <K, V extends Enum<V>> Map<K, V> enumEntryMap(Function<V, K> keyFunction) {
-        val typeArgs = TypeResolver.resolveRawArguments(Function.class, keyFunction.getClass());
-        val enumType = (Class<V>) typeArgs[0];
-        return ImmutableMap.copyOf(Arrays.stream(enumType.getEnumConstants())
-                .collect(Collectors.toMap(keyFunction, self())));
+        val cache = enumEntryMapCaches.get(keyFunction.getClass());
+        return enumEntryMap(cache, (Class<V>) cache.enumType(Function.class), keyFunction);
     }
 
     /**
-     * Very unsafely populates an immutable map. Prone to {@see ClassCastException} and {@see ArrayOutOfBounds}
-     * exceptions. Internal usage only.
+     * Creates an immutable map from given enumeration type and key function, using the key function result as key and
+     * enumeration entry itself as the value. Skips reflective type resolution altogether. Maps created from stateless
+     * functions (method references and non-capturing lambdas) are cached, repeated calls return the same map instance.
      *
-     * @param keysAndValues the array containing key and value pairs
-     * @param <K>           the key type inference
-     * @param <V>           the value type inference
-     * @return a new immutable map containing all given key and value pairs
+     * @param enumType    the enumeration type
+     * @param keyFunction the key function of enumeration
+     * @param <K>         the generic key type
+     * @param <V>         the generic value type
+     * @return an immutable map that maps given key function result to enumeration entries
+     */
+    public static <K, V extends Enum<V>> Map<K, V> enumEntryMap(Class<V> enumType, Function<V, K> keyFunction) {
+        return enumEntryMap(enumEntryMapCaches.get(keyFunction.getClass()), enumType, keyFunction);
+    }
+
+    private static <K, V extends Enum<V>> Map<K, V> enumEntryMap(EnumEntryMapCache cache, Class<V> enumType,
+                                                                Function<V, K> keyFunction) {
+        return cache.get(enumType, () -> ImmutableMap.copyOf(Arrays.stream(enumType.getEnumConstants())
+                .collect(Collectors.toMap(keyFunction, self()))));
+    }
+
+    /**
+     * Creates a builder of multiple indexes over given collection, each looking up elements by a different key. Like
+     * {@link #enumEntryMap(Function)}, but for any collection and with unique, multi-valued and sorted (range query)
+     * indexes, including primitive {@code int} and {@code long} keyed variants. See {@link Index}.
+     *
+     * @param elements the elements to be indexed
+     * @param <T>      the element type
+     * @return a new index builder
+     */
+    public static <T> Index.Builder<T> index(Collection<? extends T> elements) {
+        return Index.builder(elements);
+    }
+
+    /**
+     * Creates an immutable map from given enumeration {@code int} key function, using the key function result as key
+     * and enumeration entry itself as the value. Keys are never boxed, see {@link IntMap}. Like with
+     * {@link #enumEntryMap(Function)}, maps created from stateless functions are cached.
+     *
+     * @param keyFunction the key function of enumeration
+     * @param <V>         the generic value type
+     * @return an immutable map that maps given key function result to enumeration entries
+     * @throws IllegalArgumentException if key function returns the same key for multiple entries
      */
     @SuppressWarnings("unchecked")
-    private static <K, V> Map<K, V> unsafeMap(Object... keysAndValues) {
-        val builder = ImmutableMap.builder();
-        for (int i = 0; i < keysAndValues.length; i += 2) {
-            builder.put(keysAndValues[i], keysAndValues[i + 1]);
+    public static <V extends Enum<V>> IntMap<V> enumIntEntryMap(ToIntFunction<V> keyFunction) {
+        val cache = enumEntryMapCaches.get(keyFunction.getClass());
+        val enumType = (Class<V>) cache.enumType(ToIntFunction.class);
+        return cache.get(enumType, () -> {
+            val entries = enumType.getEnumConstants();
+            val keys = new int[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                keys[i] = keyFunction.applyAsInt(entries[i]);
+            }
+            return new IntMap<>(keys, entries);
+        });
+    }
+
+    /**
+     * Creates an immutable map from given enumeration {@code long} key function, using the key function result as key
+     * and enumeration entry itself as the value. Keys are never boxed, see {@link LongMap}. Like with
+     * {@link #enumEntryMap(Function)}, maps created from stateless functions are cached.
+     *
+     * @param keyFunction the key function of enumeration
+     * @param <V>         the generic value type
+     * @return an immutable map that maps given key function result to enumeration entries
+     * @throws IllegalArgumentException if key function returns the same key for multiple entries
+     */
+    @SuppressWarnings("unchecked")
+    public static <V extends Enum<V>> LongMap<V> enumLongEntryMap(ToLongFunction<V> keyFunction) {
+        val cache = enumEntryMapCaches.get(keyFunction.getClass());
+        val enumType = (Class<V>) cache.enumType(ToLongFunction.class);
+        return cache.get(enumType, () -> {
+            val entries = enumType.getEnumConstants();
+            val keys = new long[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                keys[i] = keyFunction.applyAsLong(entries[i]);
+            }
+            return new LongMap<>(keys, entries);
+        });
+    }
+
+    /**
+     * Creates an immutable copy of given map, indexed by a minimal perfect hash function. Intended for large lookup
+     * tables that are read-only after construction: every lookup is a single probe and entries are kept in flat
+     * parallel arrays, with less heap overhead than a general purpose hash map. Building is slower than copying into an
+     * {@link ImmutableMap}, and iteration order is unspecified. Keys that share the same hash code with another key
+     * are kept aside in a small overflow map, which is only consulted when the perfect hash slot doesn't match.
+     *
+     * @param map the map to be frozen
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return an immutable map containing all mappings of given map
+     * @throws NullPointerException if map contains a {@code null} key or value
+     */
+    public static <K, V> Map<K, V> freeze(Map<K, V> map) {
+        if (map instanceof FrozenMap) {
+            return map;
         }
-        return (Map<K, V>) builder.build();
+        val frozen = FrozenMap.of(map);
+        return frozen != null ? frozen : ImmutableMap.copyOf(map);
+    }
+
+    /**
+     * Writes given map to a file that can later be memory-mapped with {@link #loadMapped(Path)}. Keys and values may
+     * be {@link String}, {@link Integer}, {@link Long}, {@link Double} or {@code byte[]}. The file contains a hash
+     * index of the entries, so loading it doesn't need to read (or even touch) the entries themselves. Existing file is
+     * replaced atomically: the map is written to a temporary file in the same directory first and then moved over it,
+     * so processes that have the existing file mapped keep reading its old contents.
+     *
+     * @param map  the map to be written
+     * @param path the file path
+     * @throws IOException              if an I/O error occurs
+     * @throws NullPointerException     if map contains a {@code null} key or value
+     * @throws IllegalArgumentException if map contains unsupported key or value types
+     */
+    public static void writeMapped(Map<?, ?> map, Path path) throws IOException {
+        MappedMap.write(map, path);
+    }
+
+    /**
+     * Loads an immutable map from a file written by {@link #writeMapped(Map, Path)}. The file is memory-mapped and only
+     * its header is validated, so loading takes the same time regardless of map size. Entries stay off-heap (in the
+     * page cache, shared with other processes mapping the same file) and are decoded on every lookup or iteration,
+     * {@code byte[]} keys are looked up by content. The file must not be modified while the map is in use.
+     *
+     * @param path the file path
+     * @param <K>  the key type
+     * @param <V>  the value type
+     * @return an immutable map backed by the file
+     * @throws IOException if an I/O error occurs or file is not a mapped map file
+     */
+    public static <K, V> Map<K, V> loadMapped(Path path) throws IOException {
+        return MappedMap.load(path);
+    }
+
+    /**
+     * Creates a new builder of bounded, thread-safe memoizing caches with frequency-aware eviction, optional
+     * expiration and single-flight loading. See {@link Cache}.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return a new cache builder
+     */
+    public static <K, V> Cache.Builder<K, V> cache() {
+        return Cache.builder();
     }
 
     /**
@@ -61,7 +211,7 @@ public final class Maps {
      * @return a new immutable map containing all given key and value pairs
      */
     public static <K, V> Map<K, V> map(K key, V value) {
-        return unsafeMap(key, value);
+        return new CompactMap<>(new Object[]{key, value});
     }
 
     /**
@@ -70,7 +220,7 @@ public final class Maps {
      * @return a new immutable map containing all given key and value pairs
      */
     public static <K, V> Map<K, V> map(K key1, V value1, K key2, V value2) {
-        return unsafeMap(key1, value1, key2, value2);
+        return new CompactMap<>(new Object[]{key1, value1, key2, value2});
     }
 
     /**
@@ -79,7 +229,7 @@ public final class Maps {
      * @return a new immutable map containing all given key and value pairs
      */
     public static <K, V> Map<K, V> map(K key1, V value1, K key2, V value2, K key3, V value3) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3);
+        return new CompactMap<>(new Object[]{key1, value1, key2, value2, key3, value3});
     }
 
     /**
@@ -88,7 +238,7 @@ public final class Maps {
      * @return a new immutable map containing all given key and value pairs
      */
     public static <K, V> Map<K, V> map(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4);
+        return new CompactMap<>(new Object[]{key1, value1, key2, value2, key3, value3, key4, value4});
     }
 
     /**
@@ -98,7 +248,7 @@ public final class Maps {
      */
     public static <K, V> Map<K, V> map(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4, K key5
             , V value5) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5);
+        return new CompactMap<>(new Object[]{key1, value1, key2, value2, key3, value3, key4, value4, key5, value5});
     }
 
     /**
@@ -108,7 +258,8 @@ public final class Maps {
      */
     public static <K, V> Map<K, V> map(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4, K key5
             , V value5, K key6, V value6) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6);
+        return new CompactMap<>(new Object[]{key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6,
+                value6});
     }
 
     /**
@@ -118,8 +269,8 @@ public final class Maps {
      */
     public static <K, V> Map<K, V> map(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4, K key5
             , V value5, K key6, V value6, K key7, V value7) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6, key7,
-                value7);
+        return new CompactMap<>(new Object[]{key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6,
+                value6, key7, value7});
     }
 
     /**
@@ -129,9 +280,8 @@ public final class Maps {
      */
     public static <K, V> Map<K, V> map(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4, K key5
             , V value5, K key6, V value6, K key7, V value7, K key8, V value8) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6, key7,
-                value7,
-                key8, value8);
+        return new CompactMap<>(new Object[]{key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6,
+                value6, key7, value7, key8, value8});
     }
 
     /**
@@ -141,9 +291,17 @@ public final class Maps {
      */
     public static <K, V> Map<K, V> map(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4, K key5
             , V value5, K key6, V value6, K key7, V value7, K key8, V value8, K key9, V value9) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6, key7,
-                value7,
-                key8, value8, key9, value9);
+        return ImmutableMap.<K, V>builderWithExpectedSize(9)
+                .put(key1, value1)
+                .put(key2, value2)
+                .put(key3, value3)
+                .put(key4, value4)
+                .put(key5, value5)
+                .put(key6, value6)
+                .put(key7, value7)
+                .put(key8, value8)
+                .put(key9, value9)
+                .build();
     }
 
     /**
@@ -153,9 +311,18 @@ public final class Maps {
      */
     public static <K, V> Map<K, V> map(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4, K key5
             , V value5, K key6, V value6, K key7, V value7, K key8, V value8, K key9, V value9, K key10, V value10) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6, key7,
-                value7,
-                key8, value8, key9, value9, key10, value10);
+        return ImmutableMap.<K, V>builderWithExpectedSize(10)
+                .put(key1, value1)
+                .put(key2, value2)
+                .put(key3, value3)
+                .put(key4, value4)
+                .put(key5, value5)
+                .put(key6, value6)
+                .put(key7, value7)
+                .put(key8, value8)
+                .put(key9, value9)
+                .put(key10, value10)
+                .build();
     }
 
     /**
@@ -166,9 +333,19 @@ public final class Maps {
     public static <K, V> Map<K, V> map(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4, K key5
             , V value5, K key6, V value6, K key7, V value7, K key8, V value8, K key9, V value9, K key10, V value10,
                                        K key11, V value11) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6, key7,
-                value7,
-                key8, value8, key9, value9, key10, value10, key11, value11);
+        return ImmutableMap.<K, V>builderWithExpectedSize(11)
+                .put(key1, value1)
+                .put(key2, value2)
+                .put(key3, value3)
+                .put(key4, value4)
+                .put(key5, value5)
+                .put(key6, value6)
+                .put(key7, value7)
+                .put(key8, value8)
+                .put(key9, value9)
+                .put(key10, value10)
+                .put(key11, value11)
+                .build();
     }
 
     /**
@@ -179,9 +356,20 @@ public final class Maps {
     public static <K, V> Map<K, V> map(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4, K key5
             , V value5, K key6, V value6, K key7, V value7, K key8, V value8, K key9, V value9, K key10, V value10,
                                        K key11, V value11, K key12, V value12) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6, key7,
-                value7,
-                key8, value8, key9, value9, key10, value10, key11, value11, key12, value12);
+        return ImmutableMap.<K, V>builderWithExpectedSize(12)
+                .put(key1, value1)
+                .put(key2, value2)
+                .put(key3, value3)
+                .put(key4, value4)
+                .put(key5, value5)
+                .put(key6, value6)
+                .put(key7, value7)
+                .put(key8, value8)
+                .put(key9, value9)
+                .put(key10, value10)
+                .put(key11, value11)
+                .put(key12, value12)
+                .build();
     }
 
     /**
@@ -192,9 +380,21 @@ public final class Maps {
     public static <K, V> Map<K, V> map(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4, K key5
             , V value5, K key6, V value6, K key7, V value7, K key8, V value8, K key9, V value9, K key10, V value10,
                                        K key11, V value11, K key12, V value12, K key13, V value13) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6, key7,
-                value7,
-                key8, value8, key9, value9, key10, value10, key11, value11, key12, value12, key13, value13);
+        return ImmutableMap.<K, V>builderWithExpectedSize(13)
+                .put(key1, value1)
+                .put(key2, value2)
+                .put(key3, value3)
+                .put(key4, value4)
+                .put(key5, value5)
+                .put(key6, value6)
+                .put(key7, value7)
+                .put(key8, value8)
+                .put(key9, value9)
+                .put(key10, value10)
+                .put(key11, value11)
+                .put(key12, value12)
+                .put(key13, value13)
+                .build();
     }
 
     /**
@@ -205,10 +405,22 @@ public final class Maps {
     public static <K, V> Map<K, V> map(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4, K key5
             , V value5, K key6, V value6, K key7, V value7, K key8, V value8, K key9, V value9, K key10, V value10,
                                        K key11, V value11, K key12, V value12, K key13, V value13, K key14, V value14) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6, key7,
-                value7,
-                key8, value8, key9, value9, key10, value10, key11, value11, key12, value12, key13, value13, key14,
-                value14);
+        return ImmutableMap.<K, V>builderWithExpectedSize(14)
+                .put(key1, value1)
+                .put(key2, value2)
+                .put(key3, value3)
+                .put(key4, value4)
+                .put(key5, value5)
+                .put(key6, value6)
+                .put(key7, value7)
+                .put(key8, value8)
+                .put(key9, value9)
+                .put(key10, value10)
+                .put(key11, value11)
+                .put(key12, value12)
+                .put(key13, value13)
+                .put(key14, value14)
+                .build();
     }
 
     /**
@@ -220,10 +432,23 @@ public final class Maps {
             , V value5, K key6, V value6, K key7, V value7, K key8, V value8, K key9, V value9, K key10, V value10,
                                        K key11, V value11, K key12, V value12, K key13, V value13, K key14, V value14
             , K key15, V value15) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6, key7,
-                value7,
-                key8, value8, key9, value9, key10, value10, key11, value11, key12, value12, key13, value13, key14,
-                value14, key15, value15);
+        return ImmutableMap.<K, V>builderWithExpectedSize(15)
+                .put(key1, value1)
+                .put(key2, value2)
+                .put(key3, value3)
+                .put(key4, value4)
+                .put(key5, value5)
+                .put(key6, value6)
+                .put(key7, value7)
+                .put(key8, value8)
+                .put(key9, value9)
+                .put(key10, value10)
+                .put(key11, value11)
+                .put(key12, value12)
+                .put(key13, value13)
+                .put(key14, value14)
+                .put(key15, value15)
+                .build();
     }
 
     /**
@@ -235,10 +460,24 @@ public final class Maps {
             , V value5, K key6, V value6, K key7, V value7, K key8, V value8, K key9, V value9, K key10, V value10,
                                        K key11, V value11, K key12, V value12, K key13, V value13, K key14, V value14
             , K key15, V value15, K key16, V value16) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6, key7,
-                value7,
-                key8, value8, key9, value9, key10, value10, key11, value11, key12, value12, key13, value13, key14,
-                value14, key15, value15, key16, value16);
+        return ImmutableMap.<K, V>builderWithExpectedSize(16)
+                .put(key1, value1)
+                .put(key2, value2)
+                .put(key3, value3)
+                .put(key4, value4)
+                .put(key5, value5)
+                .put(key6, value6)
+                .put(key7, value7)
+                .put(key8, value8)
+                .put(key9, value9)
+                .put(key10, value10)
+                .put(key11, value11)
+                .put(key12, value12)
+                .put(key13, value13)
+                .put(key14, value14)
+                .put(key15, value15)
+                .put(key16, value16)
+                .build();
     }
 
     /**
@@ -250,10 +489,25 @@ public final class Maps {
             , V value5, K key6, V value6, K key7, V value7, K key8, V value8, K key9, V value9, K key10, V value10,
                                        K key11, V value11, K key12, V value12, K key13, V value13, K key14, V value14
             , K key15, V value15, K key16, V value16, K key17, V value17) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6, key7,
-                value7,
-                key8, value8, key9, value9, key10, value10, key11, value11, key12, value12, key13, value13, key14,
-                value14, key15, value15, key16, value16, key17, value17);
+        return ImmutableMap.<K, V>builderWithExpectedSize(17)
+                .put(key1, value1)
+                .put(key2, value2)
+                .put(key3, value3)
+                .put(key4, value4)
+                .put(key5, value5)
+                .put(key6, value6)
+                .put(key7, value7)
+                .put(key8, value8)
+                .put(key9, value9)
+                .put(key10, value10)
+                .put(key11, value11)
+                .put(key12, value12)
+                .put(key13, value13)
+                .put(key14, value14)
+                .put(key15, value15)
+                .put(key16, value16)
+                .put(key17, value17)
+                .build();
     }
 
     /**
@@ -265,10 +519,26 @@ public final class Maps {
             , V value5, K key6, V value6, K key7, V value7, K key8, V value8, K key9, V value9, K key10, V value10,
                                        K key11, V value11, K key12, V value12, K key13, V value13, K key14, V value14
             , K key15, V value15, K key16, V value16, K key17, V value17, K key18, V value18) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6, key7,
-                value7,
-                key8, value8, key9, value9, key10, value10, key11, value11, key12, value12, key13, value13, key14,
-                value14, key15, value15, key16, value16, key17, value17, key18, value18);
+        return ImmutableMap.<K, V>builderWithExpectedSize(18)
+                .put(key1, value1)
+                .put(key2, value2)
+                .put(key3, value3)
+                .put(key4, value4)
+                .put(key5, value5)
+                .put(key6, value6)
+                .put(key7, value7)
+                .put(key8, value8)
+                .put(key9, value9)
+                .put(key10, value10)
+                .put(key11, value11)
+                .put(key12, value12)
+                .put(key13, value13)
+                .put(key14, value14)
+                .put(key15, value15)
+                .put(key16, value16)
+                .put(key17, value17)
+                .put(key18, value18)
+                .build();
     }
 
     /**
@@ -280,10 +550,27 @@ public final class Maps {
             , V value5, K key6, V value6, K key7, V value7, K key8, V value8, K key9, V value9, K key10, V value10,
                                        K key11, V value11, K key12, V value12, K key13, V value13, K key14, V value14
             , K key15, V value15, K key16, V value16, K key17, V value17, K key18, V value18, K key19, V value19) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6, key7,
-                value7,
-                key8, value8, key9, value9, key10, value10, key11, value11, key12, value12, key13, value13, key14,
-                value14, key15, value15, key16, value16, key17, value17, key18, value18, key19, value19);
+        return ImmutableMap.<K, V>builderWithExpectedSize(19)
+                .put(key1, value1)
+                .put(key2, value2)
+                .put(key3, value3)
+                .put(key4, value4)
+                .put(key5, value5)
+                .put(key6, value6)
+                .put(key7, value7)
+                .put(key8, value8)
+                .put(key9, value9)
+                .put(key10, value10)
+                .put(key11, value11)
+                .put(key12, value12)
+                .put(key13, value13)
+                .put(key14, value14)
+                .put(key15, value15)
+                .put(key16, value16)
+                .put(key17, value17)
+                .put(key18, value18)
+                .put(key19, value19)
+                .build();
     }
 
     /**
@@ -296,11 +583,74 @@ public final class Maps {
                                        K key11, V value11, K key12, V value12, K key13, V value13, K key14, V value14
             , K key15, V value15, K key16, V value16, K key17, V value17, K key18, V value18, K key19, V value19,
                                        K key20, V value20) {
-        return unsafeMap(key1, value1, key2, value2, key3, value3, key4, value4, key5, value5, key6, value6, key7,
-                value7,
-                key8, value8, key9, value9, key10, value10, key11, value11, key12, value12, key13, value13, key14,
-                value14, key15, value15, key16, value16, key17, value17, key18, value18, key19, value19, key20,
-                value20);
+        return ImmutableMap.<K, V>builderWithExpectedSize(20)
+                .put(key1, value1)
+                .put(key2, value2)
+                .put(key3, value3)
+                .put(key4, value4)
+                .put(key5, value5)
+                .put(key6, value6)
+                .put(key7, value7)
+                .put(key8, value8)
+                .put(key9, value9)
+                .put(key10, value10)
+                .put(key11, value11)
+                .put(key12, value12)
+                .put(key13, value13)
+                .put(key14, value14)
+                .put(key15, value15)
+                .put(key16, value16)
+                .put(key17, value17)
+                .put(key18, value18)
+                .put(key19, value19)
+                .put(key20, value20)
+                .build();
+    }
+
+    /**
+     * Per function class cache of {@link #enumEntryMap(Function)}. Holds the reflectively resolved enumeration type
+     * and, if function class has no instance fields (and therefore always computes the same keys), maps that were
+     * already built for it, keyed by enumeration type.
+     */
+    private static final class EnumEntryMapCache {
+
+        private final Class<?> functionType;
+        private final boolean stateless;
+        private final Map<Class<?>, Object> maps = new ConcurrentHashMap<>();
+        private volatile Class<?> enumType;
+
+        private EnumEntryMapCache(Class<?> functionType) {
+            this.functionType = functionType;
+            this.stateless = !hasInstanceFields(functionType);
+        }
+
+        private static boolean hasInstanceFields(Class<?> type) {
+            for (Class<?> current = type; current != null && current != Object.class;
+                    current = current.getSuperclass()) {
+                for (val field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private Class<?> enumType(Class<?> functionalInterface) {
+            if (enumType == null) {
+                enumType = TypeResolver.resolveRawArguments(functionalInterface, functionType)[0];
+            }
+            return enumType;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T get(Class<?> enumType, Supplier<T> builder) {
+            if (!stateless) {
+                return builder.get();
+            }
+            return (T) maps.computeIfAbsent(enumType, type -> builder.get());
+        }
+
     }
 
 }
@@ -1,16 +1,26 @@
 package dev.klepto.lazyvoids;
 
 import lombok.val;
+import one.util.streamex.DoubleStreamEx;
+import one.util.streamex.IntStreamEx;
+import one.util.streamex.LongStreamEx;
+import one.util.streamex.StreamEx;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
 
 /**
- * Utilities for generating a pseudo-random number. Implementation is backed up by {@link Math#random()} which delegates
- * to global pseudo-random number generator of the current JVM. As majority of other utilities in this library, this
- * should never be used in real-world applications (unless you are a god c0dar).
+ * Utilities for generating a pseudo-random number. Implementation is backed up by a pluggable generator which defaults
+ * to {@link ThreadLocalRandom}, so threads never contend on a shared seed the way {@link Math#random()} does. The
+ * generator can be replaced with {@link #useGenerator(Supplier)} (for example with a seeded {@link java.util.Random}
+ * when a reproducible sequence is needed). As majority of other utilities in this library, this should never be used
+ * in real-world applications (unless you are a god c0dar).
  *
- * @see Math#random()
+ * @see ThreadLocalRandom
  * @see java.util.Random
  * @see java.security.SecureRandom
  * @author <a href="https://klepto.dev/">Augustinas R.</a>
@@ -18,15 +28,47 @@ import java.util.List;
  */
 public final class Random {
 
+    /**
+     * Odd constant closest to 2<sup>64</sup> divided by golden ratio, used as the counter increment of seeded streams.
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static volatile Supplier<? extends java.util.Random> generator = ThreadLocalRandom::current;
+
+    /**
+     * Zipf sampler of the most recent {@link #zipf(int, double)} call, an immutable instance that's reused by the next
+     * call with the same parameters.
+     */
+    private static volatile Zipf lastZipf;
+
+    /**
+     * Replaces the generator backing every method of this class. The supplier is invoked on each call, so it may return
+     * either a per-thread instance (such as {@link ThreadLocalRandom#current()}) or a single shared instance.
+     *
+     * @param supplier the supplier of the pseudo-random number generator
+     */
+    public static void useGenerator(Supplier<? extends java.util.Random> supplier) {
+        generator = requireNonNull(supplier);
+    }
+
+    /**
+     * Returns the pseudo-random number generator backing this class for the current thread.
+     *
+     * @return the current pseudo-random number generator
+     */
+    public static java.util.Random generator() {
+        return generator.get();
+    }
+
     /**
      * Returns a {@code double} value with a positive sign, greater than or equal to {@code 0.0} and less than {@code
      * 1.0}. Returned values are chosen pseudo-randomly with (approximately) uniform distribution from that range.
      *
      * @return a pseudorandom {@code double} greater than or equal to {@code 0.0} and less than {@code 1.0}.
-     * @see Math#random()
+     * @see java.util.Random#nextDouble()
      */
     public static double random() {
-        return Math.random();
+        return generator().nextDouble();
     }
 
     /**
@@ -46,9 +88,13 @@ public final class Random {
      *
      * @param bound the upper bound for pseudorandom long (exclusive)
      * @return a pseudorandom {@code long} greater than or equal to {@code 0.0} and less than given bound
+     * @throws IllegalArgumentException if bound is not positive
      */
     public static long random(long bound) {
-        return (long) (random() * bound);
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        return nextLong(generator(), 0, bound);
     }
 
     /**
@@ -58,9 +104,13 @@ public final class Random {
      * @param lowerBound the lower bound for pseudorandom long (inclusive)
      * @param upperBound the upper bound for pseudorandom long (exclusive)
      * @return a pseudorandom {@code long} greater than or equal to {@code 0.0} and less than given bound
+     * @throws IllegalArgumentException if lower bound is not less than upper bound
      */
     public static long random(long lowerBound, long upperBound) {
-        return lowerBound + random(upperBound - lowerBound);
+        if (lowerBound >= upperBound) {
+            throw new IllegalArgumentException("lower bound must be less than upper bound");
+        }
+        return nextLong(generator(), lowerBound, upperBound);
     }
 
     /**
@@ -72,6 +122,10 @@ public final class Random {
      * @return a pseudorandom {@code long} greater than or equal to {@code 0.0} and less or equal to given bound
      */
     public static long randomInclusive(long lowerBound, long upperBound) {
+        if (upperBound == Long.MAX_VALUE) {
+            // upper bound can't be made exclusive without overflowing, shift the whole range down by one instead
+            return lowerBound == Long.MIN_VALUE ? generator().nextLong() : random(lowerBound - 1, upperBound) + 1;
+        }
         return random(lowerBound, upperBound + 1);
     }
 
@@ -81,9 +135,10 @@ public final class Random {
      *
      * @param bound the upper bound for pseudorandom int (exclusive)
      * @return a pseudorandom {@code int} greater than or equal to {@code 0.0} and less than given bound
+     * @throws IllegalArgumentException if bound is not positive
      */
     public static int random(int bound) {
-        return (int) random((long) bound);
+        return generator().nextInt(bound);
     }
 
     /**
@@ -93,9 +148,17 @@ public final class Random {
      * @param lowerBound the lower bound for pseudorandom int (inclusive)
      * @param upperBound the upper bound for pseudorandom int (exclusive)
      * @return a pseudorandom {@code int} greater than or equal to {@code 0.0} and less or equal to given bound
+     * @throws IllegalArgumentException if lower bound is not less than upper bound
      */
     public static int random(int lowerBound, int upperBound) {
-        return (int) random((long) lowerBound, upperBound);
+        val range = (long) upperBound - lowerBound;
+        if (range <= 0) {
+            throw new IllegalArgumentException("lower bound must be less than upper bound");
+        }
+        if (range <= Integer.MAX_VALUE) {
+            return lowerBound + generator().nextInt((int) range);
+        }
+        return (int) nextLong(generator(), lowerBound, upperBound);
     }
 
     /**
@@ -107,33 +170,40 @@ public final class Random {
      * @return a pseudorandom {@code int} greater than or equal to {@code 0.0} and less or equal to given bound
      */
     public static int randomInclusive(int lowerBound, int upperBound) {
-        return random(lowerBound, upperBound + 1);
+        return (int) random((long) lowerBound, (long) upperBound + 1);
     }
 
     /**
      * Generates a pseudo-random number using {@code chance} as the upper bound and returns true if the number is equal
-     * to {@code 0}.
+     * to {@code 0}. Chance less or equal to {@code 1} always rolls true.
      *
      * @param chance the upper bound for the roll (exclusive)
      * @return true if rolled number is equal to {@code 0}, otherwise false
      */
     public static boolean roll(long chance) {
-        return random(chance) == 0;
+        return chance <= 1 || random(chance) == 0;
     }
 
     /**
-     * Returns a random element in a given collection using a generated pseudo-random number.
+     * Returns a random element in a given collection using a generated pseudo-random number. Lists with
+     * {@link RandomAccess} are indexed directly, any other collection is iterated up to the chosen position.
      *
      * @param collection the collection
      * @return a random element within the collection
      * @throws IndexOutOfBoundsException if collection is empty
      */
     public static <T> T randomElement(Collection<T> collection) {
-        val skip = random(collection.size());
-        return collection.stream()
-                .skip(skip)
-                .findFirst()
-                .orElseThrow(IndexOutOfBoundsException::new);
+        if (collection instanceof List) {
+            return randomElement((List<T>) collection);
+        }
+        if (collection.isEmpty()) {
+            throw new IndexOutOfBoundsException();
+        }
+        val iterator = collection.iterator();
+        for (int skip = random(collection.size()); skip > 0; skip--) {
+            iterator.next();
+        }
+        return iterator.next();
     }
 
     /**
@@ -144,9 +214,151 @@ public final class Random {
      * @throws IndexOutOfBoundsException if list is empty
      */
     public static <T> T randomElement(List<T> list) {
+        if (list.isEmpty()) {
+            throw new IndexOutOfBoundsException();
+        }
         return list.get(random(list.size()));
     }
 
+    /**
+     * Returns a random element in a given iterable in a single pass, without knowing it's size up front.
+     *
+     * @param iterable the iterable
+     * @return a random element within the iterable
+     * @throws IndexOutOfBoundsException if iterable is empty
+     * @see #randomElement(Iterator)
+     */
+    public static <T> T randomElement(Iterable<T> iterable) {
+        if (iterable instanceof Collection) {
+            return randomElement((Collection<T>) iterable);
+        }
+        return randomElement(iterable.iterator());
+    }
+
+    /**
+     * Returns a random element of remaining elements in a given iterator using reservoir sampling. Consumes the
+     * iterator, but only generates a pseudo-random number for the elements that end up in the reservoir (roughly
+     * {@code log(n)} numbers for {@code n} elements).
+     *
+     * @param iterator the iterator
+     * @return a random element within the iterator
+     * @throws IndexOutOfBoundsException if iterator has no remaining elements
+     */
+    public static <T> T randomElement(Iterator<T> iterator) {
+        val reservoir = reservoir(iterator, 1);
+        if (reservoir.isEmpty()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return reservoir.get(0);
+    }
+
+    /**
+     * Returns a random element in a given stream using reservoir sampling. Parallel streams are sampled on every
+     * thread and partial reservoirs are merged proportionally to the amount of elements each of them has seen.
+     *
+     * @param stream the stream
+     * @return a random element within the stream
+     * @throws IndexOutOfBoundsException if stream is empty
+     */
+    public static <T> T randomElement(Stream<T> stream) {
+        val reservoir = stream.collect(StreamReservoir<T>::new, StreamReservoir::add, StreamReservoir::merge);
+        if (reservoir.count == 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        return reservoir.element;
+    }
+
+    /**
+     * Returns given amount of random elements in a given collection without replacement. Indices are picked with
+     * Floyd's algorithm, so lists with {@link RandomAccess} are sampled in {@code O(k)} expected time, any other
+     * collection is iterated once up to the largest picked index. Elements are returned in random order.
+     *
+     * @param collection the collection
+     * @param amount     the amount of elements to pick
+     * @return a list of random elements, or all of the elements in random order if collection is not larger than the
+     * amount
+     * @throws IllegalArgumentException if amount is negative
+     */
+    public static <T> List<T> sample(Collection<T> collection, int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("amount must not be negative");
+        }
+        val size = collection.size();
+        if (amount >= size) {
+            val result = new ArrayList<T>(collection);
+            Collections.shuffle(result, generator());
+            return result;
+        }
+
+        val indices = new int[amount];
+        val picked = new HashSet<Integer>(amount * 2);
+        for (int i = 0, j = size - amount; j < size; i++, j++) {
+            int index = random(j + 1);
+            if (!picked.add(index)) {
+                index = j;
+                picked.add(index);
+            }
+            indices[i] = index;
+        }
+
+        val result = new ArrayList<T>(amount);
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            val list = (List<T>) collection;
+            for (val index : indices) {
+                result.add(list.get(index));
+            }
+        } else {
+            Arrays.sort(indices);
+            val iterator = collection.iterator();
+            int position = 0;
+            for (val index : indices) {
+                for (; position < index; position++) {
+                    iterator.next();
+                }
+                result.add(iterator.next());
+                position++;
+            }
+        }
+        Collections.shuffle(result, generator());
+        return result;
+    }
+
+    /**
+     * Returns given amount of random elements in a given iterable without replacement.
+     *
+     * @param iterable the iterable
+     * @param amount   the amount of elements to pick
+     * @return a list of random elements, or all of the elements if iterable has less elements than the amount
+     * @throws IllegalArgumentException if amount is negative
+     * @see #sample(Iterator, int)
+     */
+    public static <T> List<T> sample(Iterable<T> iterable, int amount) {
+        if (iterable instanceof Collection) {
+            return sample((Collection<T>) iterable, amount);
+        }
+        return sample(iterable.iterator(), amount);
+    }
+
+    /**
+     * Returns given amount of random elements of remaining elements in a given iterator without replacement, in a
+     * single pass using reservoir sampling (Li's "Algorithm L"). Instead of rolling for every element, the amount of
+     * elements to skip before the next reservoir replacement is generated directly, so only
+     * {@code O(k * (1 + log(n / k)))} pseudo-random numbers are generated.
+     *
+     * @param iterator the iterator
+     * @param amount   the amount of elements to pick
+     * @return a list of random elements, or all of the elements if iterator has less elements than the amount
+     * @throws IllegalArgumentException if amount is negative
+     */
+    public static <T> List<T> sample(Iterator<T> iterator, int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("amount must not be negative");
+        }
+        val result = reservoir(iterator, amount);
+        Collections.shuffle(result, generator());
+        return result;
+    }
+
     /**
      * Returns a random element in a given array using a generated pseudo-random number.
      *
@@ -155,7 +367,619 @@ public final class Random {
      * @throws ArrayIndexOutOfBoundsException if array is empty
      */
     public static <T> T randomElement(T... array) {
+        if (array.length == 0) {
+            throw new ArrayIndexOutOfBoundsException(0);
+        }
         return array[random(array.length)];
     }
 
+    /**
+     * Returns a stream of pseudo-random {@code long} values that is fully determined by given seed. Values are derived
+     * from their position in the stream (SplitMix64 over {@code seed + index * gamma}) rather than from a shared
+     * generator state, so every split of a parallel stream gets an independent deterministic substream and the result
+     * is bit-identical regardless of how the stream is split or how many threads execute it.
+     *
+     * @param seed the seed
+     * @param size the amount of values
+     * @return a stream of pseudo-random {@code long} values
+     * @throws IllegalArgumentException if size is negative
+     */
+    public static LongStreamEx longs(long seed, long size) {
+        return indices(size).map(index -> mix64(seed + (index + 1) * GOLDEN_GAMMA));
+    }
+
+    /**
+     * Returns a stream of pseudo-random {@code long} values within given range that is fully determined by given seed.
+     *
+     * @param seed       the seed
+     * @param size       the amount of values
+     * @param lowerBound the lower bound of values (inclusive)
+     * @param upperBound the upper bound of values (exclusive)
+     * @return a stream of pseudo-random {@code long} values
+     * @throws IllegalArgumentException if size is negative or lower bound is not less than upper bound
+     * @see #longs(long, long)
+     */
+    public static LongStreamEx longs(long seed, long size, long lowerBound, long upperBound) {
+        if (lowerBound >= upperBound) {
+            throw new IllegalArgumentException("lower bound must be less than upper bound");
+        }
+        return longs(seed, size).map(value -> bounded(value, lowerBound, upperBound));
+    }
+
+    /**
+     * Returns a stream of pseudo-random {@code int} values that is fully determined by given seed.
+     *
+     * @param seed the seed
+     * @param size the amount of values
+     * @return a stream of pseudo-random {@code int} values
+     * @throws IllegalArgumentException if size is negative
+     * @see #longs(long, long)
+     */
+    public static IntStreamEx ints(long seed, long size) {
+        return longs(seed, size).mapToInt(value -> (int) (value >>> 32));
+    }
+
+    /**
+     * Returns a stream of pseudo-random {@code int} values within given range that is fully determined by given seed.
+     *
+     * @param seed       the seed
+     * @param size       the amount of values
+     * @param lowerBound the lower bound of values (inclusive)
+     * @param upperBound the upper bound of values (exclusive)
+     * @return a stream of pseudo-random {@code int} values
+     * @throws IllegalArgumentException if size is negative or lower bound is not less than upper bound
+     * @see #longs(long, long)
+     */
+    public static IntStreamEx ints(long seed, long size, int lowerBound, int upperBound) {
+        return longs(seed, size, lowerBound, upperBound).mapToInt(value -> (int) value);
+    }
+
+    /**
+     * Returns a stream of pseudo-random {@code double} values greater than or equal to {@code 0.0} and less than
+     * {@code 1.0} that is fully determined by given seed.
+     *
+     * @param seed the seed
+     * @param size the amount of values
+     * @return a stream of pseudo-random {@code double} values
+     * @throws IllegalArgumentException if size is negative
+     * @see #longs(long, long)
+     */
+    public static DoubleStreamEx doubles(long seed, long size) {
+        return longs(seed, size).mapToDouble(value -> (value >>> 11) * 0x1.0p-53);
+    }
+
+    /**
+     * Returns a stream of pseudo-random {@code double} values within given range that is fully determined by given
+     * seed.
+     *
+     * @param seed       the seed
+     * @param size       the amount of values
+     * @param lowerBound the lower bound of values (inclusive)
+     * @param upperBound the upper bound of values (exclusive)
+     * @return a stream of pseudo-random {@code double} values
+     * @throws IllegalArgumentException if size is negative or lower bound is not less than upper bound
+     * @see #longs(long, long)
+     */
+    public static DoubleStreamEx doubles(long seed, long size, double lowerBound, double upperBound) {
+        if (!(lowerBound < upperBound)) {
+            throw new IllegalArgumentException("lower bound must be less than upper bound");
+        }
+        return doubles(seed, size).map(value -> {
+            val result = lowerBound + value * (upperBound - lowerBound);
+            // rounding may push the result onto the upper bound
+            return result < upperBound ? result : Math.nextDown(upperBound);
+        });
+    }
+
+    /**
+     * Returns a stream of independent {@link SplittableRandom} generators that is fully determined by given seed.
+     * Intended for parallel simulations where every task needs to draw many numbers: each task gets it's own generator
+     * that doesn't depend on which thread runs it or in which order.
+     *
+     * <pre>{@code
+     * long hits = generators(42, 1_000).parallel()
+     *         .mapToLong(random -> random.doubles(10_000).filter(x -> x < 0.5).count())
+     *         .sum(); // same result on every run
+     * }</pre>
+     *
+     * @param seed the seed
+     * @param size the amount of generators
+     * @return a stream of pseudo-random number generators
+     * @throws IllegalArgumentException if size is negative
+     * @see #longs(long, long)
+     */
+    public static StreamEx<SplittableRandom> generators(long seed, long size) {
+        return longs(seed, size).mapToObj(SplittableRandom::new);
+    }
+
+    /**
+     * Returns a normally distributed {@code double} value with mean {@code 0.0} and standard deviation {@code 1.0}.
+     * Unlike {@link java.util.Random#nextGaussian()} this is neither synchronized nor uses the polar method, values are
+     * generated with Marsaglia and Tsang's ziggurat method which needs a single pseudo-random number and a table lookup
+     * for vast majority of values.
+     *
+     * @return a normally distributed pseudo-random {@code double}
+     */
+    public static double gaussian() {
+        return Ziggurat.normal(generator());
+    }
+
+    /**
+     * Returns a normally distributed {@code double} value with given mean and standard deviation.
+     *
+     * @param mean              the mean of the distribution
+     * @param standardDeviation the standard deviation of the distribution
+     * @return a normally distributed pseudo-random {@code double}
+     * @see #gaussian()
+     */
+    public static double gaussian(double mean, double standardDeviation) {
+        return mean + gaussian() * standardDeviation;
+    }
+
+    /**
+     * Fills given array with normally distributed values with mean {@code 0.0} and standard deviation {@code 1.0}.
+     *
+     * @param array the destination array
+     * @see #gaussian()
+     */
+    public static void gaussian(double[] array) {
+        gaussian(array, 0, 1);
+    }
+
+    /**
+     * Fills given array with normally distributed values with given mean and standard deviation.
+     *
+     * @param array             the destination array
+     * @param mean              the mean of the distribution
+     * @param standardDeviation the standard deviation of the distribution
+     * @see #gaussian()
+     */
+    public static void gaussian(double[] array, double mean, double standardDeviation) {
+        val generator = generator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = mean + Ziggurat.normal(generator) * standardDeviation;
+        }
+    }
+
+    /**
+     * Returns an exponentially distributed {@code double} value with rate (and mean) {@code 1.0}. Values are generated
+     * with the ziggurat method.
+     *
+     * @return an exponentially distributed pseudo-random {@code double}
+     */
+    public static double exponential() {
+        return Ziggurat.exponential(generator());
+    }
+
+    /**
+     * Returns an exponentially distributed {@code double} value with given rate (mean of the distribution is
+     * {@code 1 / rate}).
+     *
+     * @param rate the rate of the distribution
+     * @return an exponentially distributed pseudo-random {@code double}
+     * @see #exponential()
+     */
+    public static double exponential(double rate) {
+        return exponential() / rate;
+    }
+
+    /**
+     * Fills given array with exponentially distributed values with rate {@code 1.0}.
+     *
+     * @param array the destination array
+     * @see #exponential()
+     */
+    public static void exponential(double[] array) {
+        exponential(array, 1);
+    }
+
+    /**
+     * Fills given array with exponentially distributed values with given rate.
+     *
+     * @param array the destination array
+     * @param rate  the rate of the distribution
+     * @see #exponential()
+     */
+    public static void exponential(double[] array, double rate) {
+        val generator = generator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = Ziggurat.exponential(generator) / rate;
+        }
+    }
+
+    /**
+     * Returns a Poisson distributed {@code long} value with given mean. Small means are sampled by multiplying uniform
+     * numbers (Knuth), larger ones with H&ouml;rmann's transformed rejection (PTRS), which takes constant expected time
+     * regardless of the mean.
+     *
+     * @param mean the mean of the distribution
+     * @return a Poisson distributed pseudo-random {@code long}
+     * @throws IllegalArgumentException if mean is negative or not finite
+     */
+    public static long poisson(double mean) {
+        checkPoissonMean(mean);
+        return poisson(generator(), mean);
+    }
+
+    /**
+     * Fills given array with Poisson distributed values with given mean.
+     *
+     * @param array the destination array
+     * @param mean  the mean of the distribution
+     * @throws IllegalArgumentException if mean is negative or not finite
+     * @see #poisson(double)
+     */
+    public static void poisson(long[] array, double mean) {
+        checkPoissonMean(mean);
+        val generator = generator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = poisson(generator, mean);
+        }
+    }
+
+    /**
+     * Returns a Zipf distributed {@code int} value between {@code 1} and given amount of elements (both inclusive),
+     * where probability of value {@code k} is proportional to {@code 1 / k^exponent}. Values are generated with
+     * H&ouml;rmann and Derflinger's rejection-inversion method, which takes constant expected time regardless of the
+     * amount of elements. The sampler of the most recently used parameters is kept, so repeated calls with the same
+     * parameters don't recompute its constants. When sampling with several parameters in turn, keep a {@link Zipf}
+     * sampler of each instead.
+     *
+     * @param elements the amount of elements
+     * @param exponent the exponent of the distribution
+     * @return a Zipf distributed pseudo-random {@code int}
+     * @throws IllegalArgumentException if amount of elements or exponent is not positive
+     */
+    public static int zipf(int elements, double exponent) {
+        Zipf zipf = lastZipf;
+        if (zipf == null || zipf.elements() != elements || Double.compare(zipf.exponent(), exponent) != 0) {
+            lastZipf = zipf = Zipf.of(elements, exponent);
+        }
+        return zipf.sample(generator());
+    }
+
+    /**
+     * Fills given array with Zipf distributed values between {@code 1} and given amount of elements.
+     *
+     * @param array    the destination array
+     * @param elements the amount of elements
+     * @param exponent the exponent of the distribution
+     * @throws IllegalArgumentException if amount of elements or exponent is not positive
+     * @see #zipf(int, double)
+     */
+    public static void zipf(int[] array, int elements, double exponent) {
+        Zipf.of(elements, exponent).sample(array);
+    }
+
+    private static LongStreamEx indices(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative");
+        }
+        return LongStreamEx.range(0, size);
+    }
+
+    /**
+     * SplitMix64 finalizer (variant 13 of David Stafford's mixers), turns a counter into a well distributed
+     * pseudo-random value.
+     *
+     * @param value the value to mix
+     * @return the mixed value
+     */
+    private static long mix64(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Maps a pseudo-random value into given range deterministically, same rejection algorithm as
+     * {@link #nextLong(java.util.Random, long, long)} except that rejected values are re-mixed instead of drawn from a
+     * generator.
+     *
+     * @param value      the pseudo-random value
+     * @param lowerBound the lower bound (inclusive)
+     * @param upperBound the upper bound (exclusive), must be greater than lower bound
+     * @return a pseudorandom {@code long} within given range
+     */
+    private static long bounded(long value, long lowerBound, long upperBound) {
+        long result = value;
+        val range = upperBound - lowerBound;
+        val mask = range - 1;
+        if ((range & mask) == 0) {
+            return (result & mask) + lowerBound;
+        }
+        if (range > 0) {
+            for (long bits = result >>> 1; bits + mask - (result = bits % range) < 0; ) {
+                value = mix64(value + GOLDEN_GAMMA);
+                bits = value >>> 1;
+            }
+            return result + lowerBound;
+        }
+
+        while (result < lowerBound || result >= upperBound) {
+            result = value = mix64(value + GOLDEN_GAMMA);
+        }
+        return result;
+    }
+
+    /**
+     * Fills a reservoir of given size with elements of the iterator using Li's "Algorithm L". Position of the elements
+     * in the reservoir is biased towards the order of the iterator, callers should shuffle the result if order matters.
+     *
+     * @param iterator the iterator
+     * @param size     the reservoir size
+     * @return the filled reservoir
+     */
+    private static <T> List<T> reservoir(Iterator<T> iterator, int size) {
+        val reservoir = new ArrayList<T>(Math.min(size, 1024));
+        while (reservoir.size() < size && iterator.hasNext()) {
+            reservoir.add(iterator.next());
+        }
+        if (size == 0) {
+            return reservoir;
+        }
+
+        val generator = generator();
+        double weight = Math.exp(Math.log(1 - generator.nextDouble()) / size);
+        while (iterator.hasNext()) {
+            for (long skip = (long) (Math.log(1 - generator.nextDouble()) / Math.log(1 - weight)); skip > 0; skip--) {
+                iterator.next();
+                if (!iterator.hasNext()) {
+                    return reservoir;
+                }
+            }
+            reservoir.set(generator.nextInt(size), iterator.next());
+            weight *= Math.exp(Math.log(1 - generator.nextDouble()) / size);
+        }
+        return reservoir;
+    }
+
+    /**
+     * Mutable single element reservoir used for sampling streams in parallel.
+     */
+    private static final class StreamReservoir<T> {
+
+        private T element;
+        private long count;
+
+        private void add(T element) {
+            count++;
+            if (random(count) == 0) {
+                this.element = element;
+            }
+        }
+
+        private void merge(StreamReservoir<T> other) {
+            if (other.count == 0) {
+                return;
+            }
+            count += other.count;
+            if (random(count) < other.count) {
+                element = other.element;
+            }
+        }
+
+    }
+
+    private static void checkPoissonMean(double mean) {
+        if (!(mean >= 0) || Double.isInfinite(mean)) {
+            throw new IllegalArgumentException("mean must be a finite non-negative number: " + mean);
+        }
+    }
+
+    private static long poisson(java.util.Random generator, double mean) {
+        if (mean < 10) {
+            val limit = Math.exp(-mean);
+            long count = 0;
+            for (double product = generator.nextDouble(); product > limit; product *= generator.nextDouble()) {
+                count++;
+            }
+            return count;
+        }
+
+        val logMean = Math.log(mean);
+        val b = 0.931 + 2.53 * Math.sqrt(mean);
+        val a = -0.059 + 0.02483 * b;
+        val inverseAlpha = 1.1239 + 1.1328 / (b - 3.4);
+        val vr = 0.9277 - 3.6224 / (b - 2);
+        while (true) {
+            val u = generator.nextDouble() - 0.5;
+            val v = generator.nextDouble();
+            val us = 0.5 - Math.abs(u);
+            val k = (long) Math.floor((2 * a / us + b) * u + mean + 0.43);
+            if (us >= 0.07 && v <= vr) {
+                return k;
+            }
+            if (k < 0 || (us < 0.013 && v > us)) {
+                continue;
+            }
+            if (Math.log(v) + Math.log(inverseAlpha) - Math.log(a / (us * us) + b)
+                    <= -mean + k * logMean - logGamma(k + 1)) {
+                return k;
+            }
+        }
+    }
+
+    /**
+     * Computes natural logarithm of the gamma function using Stirling's series, shifting small arguments up to
+     * {@code 7} first for precision.
+     *
+     * @param x the argument, must be positive
+     * @return logarithm of gamma function of the argument
+     */
+    private static double logGamma(double x) {
+        if (x == 1 || x == 2) {
+            return 0;
+        }
+
+        int shift = 0;
+        if (x < 7) {
+            shift = (int) (7 - x);
+        }
+        double shifted = x + shift;
+        val inverseSquare = 1 / (shifted * shifted);
+        double series = -1.39243221690590e+00;
+        series = series * inverseSquare + 1.796443723688307e-01;
+        series = series * inverseSquare - 2.955065359477124e-02;
+        series = series * inverseSquare + 6.410256410256410e-03;
+        series = series * inverseSquare - 1.917526917526918e-03;
+        series = series * inverseSquare + 8.417508417508418e-04;
+        series = series * inverseSquare - 5.952380952380952e-04;
+        series = series * inverseSquare + 7.936507936507937e-04;
+        series = series * inverseSquare - 2.777777777777778e-03;
+        series = series * inverseSquare + 8.333333333333333e-02;
+        double result = series / shifted + 0.5 * Math.log(2 * Math.PI) + (shifted - 0.5) * Math.log(shifted) - shifted;
+        for (int i = 0; i < shift; i++) {
+            shifted -= 1;
+            result -= Math.log(shifted);
+        }
+        return result;
+    }
+
+    /**
+     * Generates an unbiased pseudo-random {@code long} within given range using integer arithmetic only, so the
+     * result doesn't lose precision for ranges larger than 2<sup>53</sup>. Same algorithm as the bounded generation
+     * in {@link java.util.SplittableRandom}: takes the remainder of a 63-bit value and rejects the few values that
+     * would make lower remainders more likely.
+     *
+     * @param generator  the pseudo-random number generator
+     * @param lowerBound the lower bound (inclusive)
+     * @param upperBound the upper bound (exclusive), must be greater than lower bound
+     * @return a pseudorandom {@code long} within given range
+     */
+    private static long nextLong(java.util.Random generator, long lowerBound, long upperBound) {
+        long result = generator.nextLong();
+        val range = upperBound - lowerBound;
+        val mask = range - 1;
+        if ((range & mask) == 0) {
+            // range is a power of two
+            return (result & mask) + lowerBound;
+        }
+        if (range > 0) {
+            for (long bits = result >>> 1; bits + mask - (result = bits % range) < 0; ) {
+                bits = generator.nextLong() >>> 1;
+            }
+            return result + lowerBound;
+        }
+
+        // range overflows long, the value is in range more than half of the time
+        while (result < lowerBound || result >= upperBound) {
+            result = generator.nextLong();
+        }
+        return result;
+    }
+
+    /**
+     * Marsaglia and Tsang's ziggurat tables for normal (128 layers) and exponential (256 layers) distributions. Layer
+     * index and the value are taken from separate bits of a single {@code long}, which avoids the correlation between
+     * them that the original 32-bit formulation suffers from.
+     */
+    private static final class Ziggurat {
+
+        private static final double NORMAL_TAIL = 3.442619855899;
+        private static final double EXPONENTIAL_TAIL = 7.697117470131487;
+
+        private static final int[] normalLimits = new int[128];
+        private static final double[] normalWidths = new double[128];
+        private static final double[] normalHeights = new double[128];
+
+        private static final long[] exponentialLimits = new long[256];
+        private static final double[] exponentialWidths = new double[256];
+        private static final double[] exponentialHeights = new double[256];
+
+        static {
+            val scale = 2147483648.0;
+            val normalArea = 9.91256303526217e-3;
+            double edge = NORMAL_TAIL;
+            double previous = edge;
+            double width = normalArea / Math.exp(-0.5 * edge * edge);
+            normalLimits[0] = (int) ((edge / width) * scale);
+            normalLimits[1] = 0;
+            normalWidths[0] = width / scale;
+            normalWidths[127] = edge / scale;
+            normalHeights[0] = 1;
+            normalHeights[127] = Math.exp(-0.5 * edge * edge);
+            for (int i = 126; i >= 1; i--) {
+                edge = Math.sqrt(-2 * Math.log(normalArea / edge + Math.exp(-0.5 * edge * edge)));
+                normalLimits[i + 1] = (int) ((edge / previous) * scale);
+                previous = edge;
+                normalHeights[i] = Math.exp(-0.5 * edge * edge);
+                normalWidths[i] = edge / scale;
+            }
+
+            val unsignedScale = 4294967296.0;
+            val exponentialArea = 3.949659822581572e-3;
+            edge = EXPONENTIAL_TAIL;
+            previous = edge;
+            width = exponentialArea / Math.exp(-edge);
+            exponentialLimits[0] = (long) ((edge / width) * unsignedScale);
+            exponentialLimits[1] = 0;
+            exponentialWidths[0] = width / unsignedScale;
+            exponentialWidths[255] = edge / unsignedScale;
+            exponentialHeights[0] = 1;
+            exponentialHeights[255] = Math.exp(-edge);
+            for (int i = 254; i >= 1; i--) {
+                edge = -Math.log(exponentialArea / edge + Math.exp(-edge));
+                exponentialLimits[i + 1] = (long) ((edge / previous) * unsignedScale);
+                previous = edge;
+                exponentialHeights[i] = Math.exp(-edge);
+                exponentialWidths[i] = edge / unsignedScale;
+            }
+        }
+
+        private static double normal(java.util.Random generator) {
+            while (true) {
+                val bits = generator.nextLong();
+                val layer = (int) bits & 127;
+                val value = (int) (bits >> 32);
+                if (Math.abs(value) < normalLimits[layer]) {
+                    // inside the layer's rectangle, by far the most common case
+                    return value * normalWidths[layer];
+                }
+
+                if (layer == 0) {
+                    // sample from the tail beyond the base layer
+                    double x;
+                    double y;
+                    do {
+                        x = -Math.log(1 - generator.nextDouble()) / NORMAL_TAIL;
+                        y = -Math.log(1 - generator.nextDouble());
+                    } while (y + y < x * x);
+                    return value > 0 ? NORMAL_TAIL + x : -NORMAL_TAIL - x;
+                }
+
+                val x = value * normalWidths[layer];
+                val height = normalHeights[layer] + generator.nextDouble()
+                        * (normalHeights[layer - 1] - normalHeights[layer]);
+                if (height < Math.exp(-0.5 * x * x)) {
+                    return x;
+                }
+            }
+        }
+
+        private static double exponential(java.util.Random generator) {
+            while (true) {
+                val bits = generator.nextLong();
+                val layer = (int) bits & 255;
+                val value = bits >>> 32;
+                if (value < exponentialLimits[layer]) {
+                    return value * exponentialWidths[layer];
+                }
+
+                if (layer == 0) {
+                    // exponential distribution is memoryless, tail is just a shifted exponential
+                    return EXPONENTIAL_TAIL - Math.log(1 - generator.nextDouble());
+                }
+
+                val x = value * exponentialWidths[layer];
+                val height = exponentialHeights[layer] + generator.nextDouble()
+                        * (exponentialHeights[layer - 1] - exponentialHeights[layer]);
+                if (height < Math.exp(-x)) {
+                    return x;
+                }
+            }
+        }
+
+    }
+
 }
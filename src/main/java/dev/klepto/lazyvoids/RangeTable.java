@@ -0,0 +1,260 @@
+package dev.klepto.lazyvoids;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, precompiled table of non-overlapping key ranges, the compiled counterpart of
+ * {@link When#mapRange(Comparable, Comparable, Object)} chains. Ranges are sorted once when the table is built and
+ * resolved with binary search, so classifying a key takes {@code O(log n)} comparisons and doesn't allocate.
+ *
+ * <pre>{@code
+ * private static final RangeTable<Duration, String> LATENCY = When.<Duration, String>rangeTable()
+ *         .mapBelow(Duration.ofMillis(10), "fast")
+ *         .mapRange(Duration.ofMillis(10), Duration.ofMillis(100), "ok")
+ *         .mapAtLeast(Duration.ofMillis(100), "slow")
+ *         .build();
+ * }</pre>
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ * @see LongRangeTable
+ */
+public final class RangeTable<K extends Comparable<? super K>, V> implements Function<K, V> {
+
+    private final Object[] lowerBounds;
+    private final Object[] upperBounds;
+    private final Object[] values;
+
+    @SuppressWarnings("unchecked")
+    private RangeTable(List<Range<K>> ranges) {
+        ranges.sort(Comparator.comparing((Range<K> range) -> range.from,
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+        for (int i = 1; i < ranges.size(); i++) {
+            val previous = ranges.get(i - 1);
+            val next = ranges.get(i);
+            if (previous.to == null || next.from == null || previous.to.compareTo(next.from) > 0) {
+                throw new IllegalArgumentException("Overlapping ranges: " + previous + " and " + next);
+            }
+        }
+
+        val size = ranges.size();
+        this.lowerBounds = new Object[size];
+        this.upperBounds = new Object[size];
+        this.values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            val range = ranges.get(i);
+            lowerBounds[i] = range.from;
+            upperBounds[i] = range.to;
+            values[i] = range.value;
+        }
+    }
+
+    /**
+     * Creates a new range table builder. Usually accessed through {@link When#rangeTable()}.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return a new range table builder
+     */
+    public static <K extends Comparable<? super K>, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the value of the range that contains given key (if key isn't within any range, value will be
+     * {@code null}).
+     *
+     * @param key the key, {@code null} never matches
+     * @return the mapped value or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+
+        // find the last range that starts at or before the key
+        int low = 0;
+        int high = lowerBounds.length - 1;
+        int index = -1;
+        while (low <= high) {
+            val middle = (low + high) >>> 1;
+            val lowerBound = (K) lowerBounds[middle];
+            if (lowerBound == null || lowerBound.compareTo(key) <= 0) {
+                index = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        if (index < 0) {
+            return null;
+        }
+        val upperBound = (K) upperBounds[index];
+        return upperBound == null || upperBound.compareTo(key) > 0 ? (V) values[index] : null;
+    }
+
+    /**
+     * Returns the value of the range that contains given key, same as {@link #get(Comparable)}.
+     *
+     * @param key the key
+     * @return the mapped value or {@code null}
+     */
+    @Override
+    public V apply(K key) {
+        return get(key);
+    }
+
+    /**
+     * Returns true if given key is within any of the ranges mapped to a non-null value, otherwise false.
+     *
+     * @param key the key
+     * @return true if a value is present for given key, otherwise false
+     */
+    public boolean isPresent(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * If given key is within any of the ranges, returns it's value, otherwise returns other.
+     *
+     * @param key   the key
+     * @param other the value to be returned, if no value is present (may be {@code null})
+     * @return the value, if present, otherwise other
+     */
+    public V orElse(K key, V other) {
+        val result = get(key);
+        return result != null ? result : other;
+    }
+
+    /**
+     * If given key is within any of the ranges, returns it's value, otherwise returns the result produced by the
+     * supplying function.
+     *
+     * @param key      the key
+     * @param supplier the supplying function that produces a value to be returned
+     * @return the value, if present, otherwise the result produced by the supplying function
+     */
+    public V orElseGet(K key, Supplier<? extends V> supplier) {
+        val result = get(key);
+        return result != null ? result : supplier.get();
+    }
+
+    /**
+     * If given key is within any of the ranges, returns it's value, otherwise throws an throwable produced by the
+     * throwable supplying function.
+     *
+     * @param key               the key
+     * @param throwableSupplier the supplying function that produces an throwable to be thrown
+     * @param <X>               type of the exception to be thrown
+     * @return the value, if present
+     * @throws X if no value is present
+     */
+    public <X extends Throwable> V orElseThrow(K key, Supplier<? extends X> throwableSupplier) throws X {
+        val result = get(key);
+        if (result == null) {
+            throw throwableSupplier.get();
+        }
+        return result;
+    }
+
+    /**
+     * A single range of the table, {@code null} bounds are unbounded.
+     */
+    @RequiredArgsConstructor
+    private static final class Range<K extends Comparable<? super K>> {
+
+        private final K from;
+        private final K to;
+        private final Object value;
+
+        @Override
+        public String toString() {
+            return "[" + (from == null ? "-inf" : from) + ", " + (to == null ? "+inf" : to) + ")";
+        }
+
+    }
+
+    /**
+     * Builder for {@link RangeTable}. Ranges may be added in any order, but they must not overlap.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    public static final class Builder<K extends Comparable<? super K>, V> {
+
+        private final List<Range<K>> ranges = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a mapping for a range of keys.
+         *
+         * @param from  the lower bound of the range (inclusive)
+         * @param to    the upper bound of the range (exclusive)
+         * @param value the mapping value
+         * @param <T>   generic type to infer value type for future calls of this method
+         * @return this builder
+         * @throws IllegalArgumentException if the range is empty
+         */
+        @SuppressWarnings("unchecked")
+        public <T extends V> Builder<K, T> mapRange(K from, K to, T value) {
+            if (requireNonNull(from).compareTo(requireNonNull(to)) >= 0) {
+                throw new IllegalArgumentException("Empty range: [" + from + ", " + to + ")");
+            }
+            ranges.add(new Range<>(from, to, value));
+            return (Builder<K, T>) this;
+        }
+
+        /**
+         * Adds a mapping for keys greater or equal to given threshold.
+         *
+         * @param threshold the lowest matching key (inclusive)
+         * @param value     the mapping value
+         * @param <T>       generic type to infer value type for future calls of this method
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public <T extends V> Builder<K, T> mapAtLeast(K threshold, T value) {
+            ranges.add(new Range<>(requireNonNull(threshold), null, value));
+            return (Builder<K, T>) this;
+        }
+
+        /**
+         * Adds a mapping for keys less than given threshold.
+         *
+         * @param threshold the upper bound of matching keys (exclusive)
+         * @param value     the mapping value
+         * @param <T>       generic type to infer value type for future calls of this method
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public <T extends V> Builder<K, T> mapBelow(K threshold, T value) {
+            ranges.add(new Range<>(null, requireNonNull(threshold), value));
+            return (Builder<K, T>) this;
+        }
+
+        /**
+         * Builds an immutable range table.
+         *
+         * @return a new range table
+         * @throws IllegalArgumentException if any of the ranges overlap
+         */
+        public RangeTable<K, V> build() {
+            return new RangeTable<>(new ArrayList<>(ranges));
+        }
+
+    }
+
+}
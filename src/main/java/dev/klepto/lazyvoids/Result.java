@@ -0,0 +1,360 @@
+package dev.klepto.lazyvoids;
+
+import dev.klepto.lazyvoids.Functions.ThrowableFunction;
+import dev.klepto.lazyvoids.Functions.ThrowableSupplier;
+import lombok.val;
+import one.util.streamex.StreamEx;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Outcome of a computation that may fail: either a success holding a value (possibly {@code null}) or a failure holding
+ * the throwable that was thrown. Intended for high-volume stream pipelines where a single bad record shouldn't abort
+ * the whole stream: failures are recorded as values instead of being thrown, so the rest of the stream (including a
+ * parallel one) keeps running and failures can be dealt with after the fact. Recording a failure allocates nothing but
+ * the result itself, the original throwable is kept as is and no stack trace is captured on the way. Created through
+ * {@link Throwables#attempt(ThrowableSupplier)} and {@link Throwables#attempting(ThrowableFunction)}.
+ *
+ * <pre>{@code
+ * Result.Partition<List<Order>, List<Throwable>> orders = stream(lines)
+ *         .parallel()
+ *         .map(attempting(Order::parse))
+ *         .collect(Result.partition());
+ *
+ * database.insert(orders.successes());
+ * log.warn("Skipped {} malformed orders.", orders.failures().size());
+ * }</pre>
+ *
+ * @param <T> the value type
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+public final class Result<T> {
+
+    private final T value;
+    private final Throwable failure;
+
+    private Result(T value, Throwable failure) {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns a successful result holding given value.
+     *
+     * @param value the value, may be {@code null}
+     * @param <T>   the value type
+     * @return a successful result
+     */
+    public static <T> Result<T> success(T value) {
+        return new Result<>(value, null);
+    }
+
+    /**
+     * Returns a failed result holding given throwable.
+     *
+     * @param failure the cause of failure
+     * @param <T>     the value type
+     * @return a failed result
+     */
+    public static <T> Result<T> failure(Throwable failure) {
+        return new Result<>(null, requireNonNull(failure));
+    }
+
+    /**
+     * Returns a failed result holding a new exception with given message. The exception doesn't capture a stack trace,
+     * making it cheap enough to create for every rejected record. When a stack trace is needed, create the exception
+     * explicitly and use {@link #failure(Throwable)} instead.
+     *
+     * @param message the failure message
+     * @param <T>     the value type
+     * @return a failed result
+     */
+    public static <T> Result<T> failure(String message) {
+        return failure(new Failure(message));
+    }
+
+    /**
+     * Returns true if this result is a success, otherwise false.
+     *
+     * @return true if this result is a success, otherwise false
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * Returns true if this result is a failure, otherwise false.
+     *
+     * @return true if this result is a failure, otherwise false
+     */
+    public boolean isFailure() {
+        return failure != null;
+    }
+
+    /**
+     * Returns the value of a successful result, or throws the cause of a failed one converted to runtime exception,
+     * same as {@link Throwables#runtimeThrows(ThrowableSupplier)} would.
+     *
+     * @return the value
+     */
+    public T get() {
+        if (failure != null) {
+            return Throwables.runtimeThrows(() -> {
+                throw failure;
+            });
+        }
+        return value;
+    }
+
+    /**
+     * Returns the cause of a failed result.
+     *
+     * @return the cause of failure, or {@code null} if this result is a success
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns the value of a successful result, or given value if this result is a failure.
+     *
+     * @param other the value to be returned on failure
+     * @return the value of this result, or given value
+     */
+    public T orElse(T other) {
+        return failure == null ? value : other;
+    }
+
+    /**
+     * Returns the value of a successful result, or the result of given function applied to the cause of failure.
+     *
+     * @param function the function computing a value from the cause of failure
+     * @return the value of this result, or the result of given function
+     */
+    public T orElseGet(Function<? super Throwable, ? extends T> function) {
+        return failure == null ? value : function.apply(failure);
+    }
+
+    /**
+     * Applies given function to the value of a successful result. Failed results are returned as is, without calling
+     * the function.
+     *
+     * @param function the function to be applied
+     * @param <R>      the result value type
+     * @return a successful result of the function, or a failure if this result or the function failed
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Result<R> map(ThrowableFunction<? super T, ? extends R> function) {
+        if (failure != null) {
+            return (Result<R>) this;
+        }
+        try {
+            return success(function.apply(value));
+        } catch (Throwable throwable) {
+            return failure(throwable);
+        }
+    }
+
+    /**
+     * Applies given result-bearing function to the value of a successful result. Failed results are returned as is,
+     * without calling the function.
+     *
+     * @param function the function to be applied
+     * @param <R>      the result value type
+     * @return the result of the function, or this result if it's a failure
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Result<R> flatMap(Function<? super T, Result<R>> function) {
+        return failure != null ? (Result<R>) this : requireNonNull(function.apply(value));
+    }
+
+    /**
+     * Converts a failed result into a success by applying given function to the cause of failure. Successful results
+     * are returned as is.
+     *
+     * @param function the function computing a value from the cause of failure
+     * @return a successful result, or a failure if the function failed
+     */
+    public Result<T> recover(ThrowableFunction<? super Throwable, ? extends T> function) {
+        if (failure == null) {
+            return this;
+        }
+        try {
+            return success(function.apply(failure));
+        } catch (Throwable throwable) {
+            return failure(throwable);
+        }
+    }
+
+    /**
+     * Calls given consumer with the value of a successful result.
+     *
+     * @param consumer the value consumer
+     * @return this result
+     */
+    public Result<T> ifSuccess(Consumer<? super T> consumer) {
+        if (failure == null) {
+            consumer.accept(value);
+        }
+        return this;
+    }
+
+    /**
+     * Calls given consumer with the cause of a failed result.
+     *
+     * @param consumer the failure consumer
+     * @return this result
+     */
+    public Result<T> ifFailure(Consumer<? super Throwable> consumer) {
+        if (failure != null) {
+            consumer.accept(failure);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the value of a successful result as an optional. Empty if this result is a failure or its value is
+     * {@code null}.
+     *
+     * @return an optional of the value
+     */
+    public Optional<T> toOptional() {
+        return failure == null ? Optional.ofNullable(value) : Optional.empty();
+    }
+
+    /**
+     * Returns a stream of the value of a successful result, or an empty stream if this result is a failure. Intended
+     * for dropping failures in a pipeline: {@code .map(attempting(function)).flatMap(Result::stream)}.
+     *
+     * @return a stream of at most one value
+     */
+    public StreamEx<T> stream() {
+        return failure == null ? StreamEx.of(value) : StreamEx.empty();
+    }
+
+    @Override
+    public String toString() {
+        return failure == null ? "Success[" + value + "]" : "Failure[" + failure + "]";
+    }
+
+    /**
+     * Returns a collector that splits results into a list of values of successful results and a list of causes of
+     * failed results in a single pass, both in encounter order. Safe to use with parallel streams.
+     *
+     * @param <T> the value type
+     * @return a partitioning collector
+     */
+    public static <T> Collector<Result<T>, ?, Partition<List<T>, List<Throwable>>> partition() {
+        return partition(Collectors.toList(), Collectors.toList());
+    }
+
+    /**
+     * Returns a collector that splits results in a single pass, collecting values of successful results and causes of
+     * failed results with given downstream collectors. Safe to use with parallel streams if downstream collectors are.
+     *
+     * @param successes the collector of success values
+     * @param failures  the collector of failure causes
+     * @param <T>       the value type
+     * @param <S>       the collected success type
+     * @param <F>       the collected failure type
+     * @return a partitioning collector
+     */
+    public static <T, S, F> Collector<Result<T>, ?, Partition<S, F>> partition(
+            Collector<? super T, ?, S> successes, Collector<? super Throwable, ?, F> failures) {
+        return partitioning(successes, failures);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, A, B, S, F> Collector<Result<T>, ?, Partition<S, F>> partitioning(
+            Collector<? super T, A, S> successes, Collector<? super Throwable, B, F> failures) {
+        val successSupplier = successes.supplier();
+        val successAccumulator = successes.accumulator();
+        val successCombiner = successes.combiner();
+        val failureSupplier = failures.supplier();
+        val failureAccumulator = failures.accumulator();
+        val failureCombiner = failures.combiner();
+
+        Supplier<Object[]> supplier = () -> new Object[]{successSupplier.get(), failureSupplier.get()};
+        BiConsumer<Object[], Result<T>> accumulator = (container, result) -> {
+            if (result.failure == null) {
+                successAccumulator.accept((A) container[0], result.value);
+            } else {
+                failureAccumulator.accept((B) container[1], result.failure);
+            }
+        };
+        BinaryOperator<Object[]> combiner = (left, right) -> {
+            left[0] = successCombiner.apply((A) left[0], (A) right[0]);
+            left[1] = failureCombiner.apply((B) left[1], (B) right[1]);
+            return left;
+        };
+        Function<Object[], Partition<S, F>> finisher = container -> new Partition<>(
+                successes.finisher().apply((A) container[0]), failures.finisher().apply((B) container[1]));
+        return Collector.of(supplier, accumulator, combiner, finisher);
+    }
+
+    /**
+     * Results split into collected values of successes and collected causes of failures.
+     *
+     * @param <S> the collected success type
+     * @param <F> the collected failure type
+     */
+    public static final class Partition<S, F> {
+
+        private final S successes;
+        private final F failures;
+
+        private Partition(S successes, F failures) {
+            this.successes = successes;
+            this.failures = failures;
+        }
+
+        /**
+         * Returns the collected values of successful results.
+         *
+         * @return the collected values
+         */
+        public S successes() {
+            return successes;
+        }
+
+        /**
+         * Returns the collected causes of failed results.
+         *
+         * @return the collected causes of failure
+         */
+        public F failures() {
+            return failures;
+        }
+
+        @Override
+        public String toString() {
+            return "Partition[successes=" + successes + ", failures=" + failures + "]";
+        }
+
+    }
+
+    /**
+     * Stackless exception of failures created from a message alone.
+     */
+    private static final class Failure extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private Failure(String message) {
+            super(message, null, false, false);
+        }
+
+    }
+
+}
@@ -0,0 +1,121 @@
+package dev.klepto.lazyvoids;
+
+import lombok.val;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable index of elements sorted by a comparable key, answering range queries with binary search. Elements with
+ * equal keys keep their original collection order. Range results are read-only views over the sorted elements, nothing
+ * is copied. Created through {@link Index.Builder#sorted(String, java.util.function.Function)}.
+ *
+ * @param <K> the key type
+ * @param <T> the element type
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ * @see LongSortedIndex
+ */
+public final class SortedIndex<K extends Comparable<? super K>, T> {
+
+    private final Object[] keys;
+    private final List<T> elements;
+
+    @SuppressWarnings("unchecked")
+    SortedIndex(Object[] keys, Object[] elements) {
+        this.keys = keys;
+        this.elements = Collections.unmodifiableList(Arrays.asList((T[]) elements));
+    }
+
+    @SuppressWarnings("unchecked")
+    private int lowerBound(K key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            val middle = (low + high) >>> 1;
+            if (((K) keys[middle]).compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int upperBound(K key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            val middle = (low + high) >>> 1;
+            if (((K) keys[middle]).compareTo(key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns all elements with key equal to given key.
+     *
+     * @param key the key
+     * @return a read-only list of matching elements, empty if there are none
+     */
+    public List<T> get(K key) {
+        return elements.subList(lowerBound(key), upperBound(key));
+    }
+
+    /**
+     * Returns all elements with key within given range, ordered by key.
+     *
+     * @param fromInclusive the lower bound of the range (inclusive)
+     * @param toExclusive   the upper bound of the range (exclusive)
+     * @return a read-only list of matching elements, empty if there are none
+     */
+    public List<T> range(K fromInclusive, K toExclusive) {
+        val from = lowerBound(fromInclusive);
+        return elements.subList(from, Math.max(from, lowerBound(toExclusive)));
+    }
+
+    /**
+     * Returns all elements with key greater than or equal to given key, ordered by key.
+     *
+     * @param fromInclusive the lower bound of the range (inclusive)
+     * @return a read-only list of matching elements, empty if there are none
+     */
+    public List<T> atLeast(K fromInclusive) {
+        return elements.subList(lowerBound(fromInclusive), elements.size());
+    }
+
+    /**
+     * Returns all elements with key less than given key, ordered by key.
+     *
+     * @param toExclusive the upper bound of the range (exclusive)
+     * @return a read-only list of matching elements, empty if there are none
+     */
+    public List<T> below(K toExclusive) {
+        return elements.subList(0, lowerBound(toExclusive));
+    }
+
+    /**
+     * Returns all indexed elements, ordered by key.
+     *
+     * @return a read-only list of all elements
+     */
+    public List<T> all() {
+        return elements;
+    }
+
+    /**
+     * Returns the number of indexed elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return elements.size();
+    }
+
+}
@@ -1,8 +1,12 @@
 package dev.klepto.lazyvoids;
 
+import lombok.val;
 import one.util.streamex.StreamEx;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 
 /**
@@ -55,6 +59,38 @@ public final class Streams {
         return stream(iterable.spliterator());
     }
 
+    /**
+     * Returns a stream of given iterator that splits well in parallel, unlike {@link #stream(Iterator)}. Elements are
+     * buffered into arrays in batches tuned to the parallelism of the pool that runs the stream, see
+     * {@link AdaptiveSpliterator}. Intended for parallel pipelines over database cursors and other sources that can
+     * only be iterated.
+     *
+     * @param iterator        the source iterator
+     * @param size            the exact number of elements if characteristics include {@link Spliterator#SIZED},
+     *                        otherwise an estimate used to size the first batch, or a negative value if unknown
+     * @param characteristics the characteristics of the source, such as {@link Spliterator#ORDERED}; stream reports
+     *                        {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED} only if {@code SIZED} is given
+     * @param <T>             the element type
+     * @return a new stream
+     */
+    public static <T> StreamEx<T> stream(Iterator<? extends T> iterator, long size, int characteristics) {
+        return StreamEx.of(new AdaptiveSpliterator<T>(iterator, size, characteristics));
+    }
+
+    /**
+     * Returns a stream of given iterable that splits well in parallel, see {@link #stream(Iterator, long, int)}.
+     *
+     * @param iterable        the source iterable
+     * @param size            the exact number of elements if characteristics include {@link Spliterator#SIZED},
+     *                        otherwise an estimate used to size the first batch, or a negative value if unknown
+     * @param characteristics the characteristics of the source, such as {@link Spliterator#ORDERED}
+     * @param <T>             the element type
+     * @return a new stream
+     */
+    public static <T> StreamEx<T> stream(Iterable<T> iterable, long size, int characteristics) {
+        return stream(iterable.iterator(), size, characteristics);
+    }
+
     /**
      * @see StreamEx#of(Collection) 
      */
@@ -97,4 +133,119 @@ public final class Streams {
         return StreamEx.ofValues(map);
     }
 
+    /**
+     * Returns a parallel stream of given stream bound to given pool instead of {@link ForkJoinPool#commonPool()}. The
+     * terminal operation, along with every stage before it, runs inside the pool and the calling thread waits for it to
+     * complete. Intended for isolating workloads, such as batch jobs or stages that block, from each other and from the
+     * rest of the application.
+     *
+     * @param stream the source stream
+     * @param pool   the pool to run the stream in
+     * @param <T>    the element type
+     * @return a parallel stream bound to given pool
+     * @see StreamEx#parallel(ForkJoinPool)
+     */
+    public static <T> StreamEx<T> parallel(Stream<T> stream, ForkJoinPool pool) {
+        return StreamEx.of(stream).parallel(pool);
+    }
+
+    /**
+     * Returns a parallel stream of given collection bound to given pool, see {@link #parallel(Stream, ForkJoinPool)}.
+     *
+     * @param collection the source collection
+     * @param pool       the pool to run the stream in
+     * @param <T>        the element type
+     * @return a parallel stream bound to given pool
+     */
+    public static <T> StreamEx<T> parallel(Collection<T> collection, ForkJoinPool pool) {
+        return StreamEx.of(collection).parallel(pool);
+    }
+
+    /**
+     * Returns a parallel stream of given iterable bound to given pool, see {@link #parallel(Stream, ForkJoinPool)}.
+     *
+     * @param iterable the source iterable
+     * @param pool     the pool to run the stream in
+     * @param <T>      the element type
+     * @return a parallel stream bound to given pool
+     */
+    public static <T> StreamEx<T> parallel(Iterable<T> iterable, ForkJoinPool pool) {
+        return stream(iterable).parallel(pool);
+    }
+
+    /**
+     * Returns a parallel stream of given array bound to given pool, see {@link #parallel(Stream, ForkJoinPool)}.
+     *
+     * @param elements the source array
+     * @param pool     the pool to run the stream in
+     * @param <T>      the element type
+     * @return a parallel stream bound to given pool
+     */
+    public static <T> StreamEx<T> parallel(T[] elements, ForkJoinPool pool) {
+        return StreamEx.of(elements).parallel(pool);
+    }
+
+    /**
+     * Returns a stream of lists of consecutive elements of given stream, each list holding {@code size} elements except
+     * for the last one which may hold fewer. Batches are built lazily as the returned stream is consumed, only a single
+     * batch is held in memory at a time (per thread, for parallel streams). Intended for bulk writes of streamed
+     * records:
+     * <pre>{@code
+     * batched(stream(cursor), 1000).forEach(database::insertAll);
+     * }</pre>
+     * Parallel streams are split along batch boundaries, so they produce exactly the same batches as sequential ones.
+     *
+     * @param stream the source stream
+     * @param size   the maximum number of elements in a batch
+     * @param <T>    the element type
+     * @return a stream of batches, parallel if source stream is
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public static <T> StreamEx<List<T>> batched(Stream<T> stream, int size) {
+        return batched(stream, size, 0);
+    }
+
+    /**
+     * Returns a stream of arrays of consecutive elements of given stream, same as {@link #batched(Stream, int)}.
+     *
+     * @param stream    the source stream
+     * @param size      the maximum number of elements in a batch
+     * @param generator the array generator, such as {@code String[]::new}
+     * @param <T>       the element type
+     * @return a stream of batches, parallel if source stream is
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public static <T> StreamEx<T[]> batched(Stream<T> stream, int size, IntFunction<T[]> generator) {
+        return batched(stream, size).map(batch -> batch.toArray(generator.apply(batch.size())));
+    }
+
+    /**
+     * Returns a stream of lists of consecutive elements of given stream, bounded by both size and time. Same as
+     * {@link #batched(Stream, int)}, except that a batch is also completed once an element arrives after given delay
+     * since the first element of the batch, so slow unbounded sources (such as message queues) don't hold elements back
+     * for too long. The delay is only checked as elements arrive: a source that blocks delays the batch until it either
+     * produces the next element or ends. Time-bounded batching is sequential, the returned stream never splits.
+     *
+     * @param stream   the source stream
+     * @param size     the maximum number of elements in a batch
+     * @param maxDelay the maximum time since the first element of a batch, after which the batch is completed
+     * @param <T>      the element type
+     * @return a stream of batches
+     * @throws IllegalArgumentException if size or delay is not positive
+     */
+    public static <T> StreamEx<List<T>> batched(Stream<T> stream, int size, Duration maxDelay) {
+        if (maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("Batch delay must be positive: " + maxDelay);
+        }
+        return batched(stream, size, maxDelay.toNanos());
+    }
+
+    private static <T> StreamEx<List<T>> batched(Stream<T> stream, int size, long maxDelayNanos) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + size);
+        }
+        val batches = StreamEx.of(new BatchSpliterator<>(stream.spliterator(), size, maxDelayNanos));
+        return (stream.isParallel() ? batches.parallel() : batches).onClose(stream::close);
+    }
+
 }
@@ -1,10 +1,19 @@
 package dev.klepto.lazyvoids;
 
+import dev.klepto.lazyvoids.Functions.ThrowableDoubleSupplier;
+import dev.klepto.lazyvoids.Functions.ThrowableFunction;
+import dev.klepto.lazyvoids.Functions.ThrowableIntSupplier;
+import dev.klepto.lazyvoids.Functions.ThrowableLongSupplier;
+import dev.klepto.lazyvoids.Functions.ThrowablePredicate;
 import dev.klepto.lazyvoids.Functions.ThrowableSupplier;
 import dev.klepto.lazyvoids.Functions.ThrowableRunnable;
-import lombok.RequiredArgsConstructor;
+import dev.klepto.lazyvoids.Functions.ThrowableToIntFunction;
 import lombok.experimental.Delegate;
 
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
 /**
  * Throwable utilities that will make any self-respecting developer angry.
  *
@@ -21,10 +30,11 @@ public class Throwables {
      * @throws RuntimeThrowable if any exception was thrown during runnable execution
      */
     public static void runtimeThrows(ThrowableRunnable runnable) {
-        runtimeThrows(() -> {
+        try {
             runnable.run();
-            return null;
-        });
+        } catch (Throwable throwable) {
+            throw new RuntimeThrowable(throwable);
+        }
     }
 
     /**
@@ -43,20 +53,204 @@ public class Throwables {
         }
     }
 
+    /**
+     * Gets an {@code int} value from given supplier, same as {@link #runtimeThrows(ThrowableSupplier)} without boxing.
+     *
+     * @param supplier the supplier
+     * @return result of the supplier
+     * @throws RuntimeThrowable if any exception was thrown while getting result of the supplier
+     */
+    public static int runtimeThrowsInt(ThrowableIntSupplier supplier) {
+        try {
+            return supplier.getAsInt();
+        } catch (Throwable throwable) {
+            throw new RuntimeThrowable(throwable);
+        }
+    }
+
+    /**
+     * Gets a {@code long} value from given supplier, same as {@link #runtimeThrows(ThrowableSupplier)} without boxing.
+     *
+     * @param supplier the supplier
+     * @return result of the supplier
+     * @throws RuntimeThrowable if any exception was thrown while getting result of the supplier
+     */
+    public static long runtimeThrowsLong(ThrowableLongSupplier supplier) {
+        try {
+            return supplier.getAsLong();
+        } catch (Throwable throwable) {
+            throw new RuntimeThrowable(throwable);
+        }
+    }
+
+    /**
+     * Gets a {@code double} value from given supplier, same as {@link #runtimeThrows(ThrowableSupplier)} without
+     * boxing.
+     *
+     * @param supplier the supplier
+     * @return result of the supplier
+     * @throws RuntimeThrowable if any exception was thrown while getting result of the supplier
+     */
+    public static double runtimeThrowsDouble(ThrowableDoubleSupplier supplier) {
+        try {
+            return supplier.getAsDouble();
+        } catch (Throwable throwable) {
+            throw new RuntimeThrowable(throwable);
+        }
+    }
+
+    /**
+     * Adapts given throwable function into a regular function that converts any thrown throwables to runtime exception,
+     * see {@link #runtimeThrows(ThrowableSupplier)}. Intended for stream mapping:
+     * {@code stream(paths).map(runtimeFunction(Files::readAllBytes))}.
+     *
+     * @param function the throwable function
+     * @return a function that rethrows any throwable as {@link RuntimeThrowable}
+     */
+    public static <T, R> Function<T, R> runtimeFunction(ThrowableFunction<? super T, ? extends R> function) {
+        return t -> {
+            try {
+                return function.apply(t);
+            } catch (Throwable throwable) {
+                throw new RuntimeThrowable(throwable);
+            }
+        };
+    }
+
+    /**
+     * Adapts given throwable {@code int} function into a regular one, same as {@link #runtimeFunction} without boxing.
+     *
+     * @param function the throwable function
+     * @return a function that rethrows any throwable as {@link RuntimeThrowable}
+     */
+    public static <T> ToIntFunction<T> runtimeToIntFunction(ThrowableToIntFunction<? super T> function) {
+        return t -> {
+            try {
+                return function.applyAsInt(t);
+            } catch (Throwable throwable) {
+                throw new RuntimeThrowable(throwable);
+            }
+        };
+    }
+
+    /**
+     * Adapts given throwable predicate into a regular one, same as {@link #runtimeFunction} without boxing.
+     *
+     * @param predicate the throwable predicate
+     * @return a predicate that rethrows any throwable as {@link RuntimeThrowable}
+     */
+    public static <T> Predicate<T> runtimePredicate(ThrowablePredicate<? super T> predicate) {
+        return t -> {
+            try {
+                return predicate.test(t);
+            } catch (Throwable throwable) {
+                throw new RuntimeThrowable(throwable);
+            }
+        };
+    }
+
+    /**
+     * Runs given a runnable and rethrows any thrown throwable as is, without wrapping it, even if it's a checked
+     * exception that isn't declared by the calling method. Unlike {@link #runtimeThrows(ThrowableRunnable)}, nothing is
+     * allocated on the failure path and callers can still catch the original exception type further up the stack.
+     *
+     * @param runnable the runnable
+     */
+    public static void sneakyThrows(ThrowableRunnable runnable) {
+        try {
+            runnable.run();
+        } catch (Throwable throwable) {
+            throw sneakyThrow(throwable);
+        }
+    }
+
+    /**
+     * Gets a value from given a supplier and rethrows any thrown throwable as is, without wrapping it, even if it's a
+     * checked exception that isn't declared by the calling method. Unlike {@link #runtimeThrows(ThrowableSupplier)},
+     * nothing is allocated on the failure path and callers can still catch the original exception type further up the
+     * stack.
+     *
+     * @param supplier the supplier
+     * @return result of the supplier
+     */
+    public static <T> T sneakyThrows(ThrowableSupplier<T> supplier) {
+        try {
+            return supplier.get();
+        } catch (Throwable throwable) {
+            throw sneakyThrow(throwable);
+        }
+    }
+
+    /**
+     * Gets a value from given supplier and captures the outcome as a result instead of throwing. Any throwable thrown
+     * by the supplier is recorded as is, so failures are only as expensive as the throwable itself.
+     *
+     * @param supplier the supplier
+     * @return a successful result of the supplier, or a failure holding the thrown throwable
+     */
+    public static <T> Result<T> attempt(ThrowableSupplier<? extends T> supplier) {
+        try {
+            return Result.success(supplier.get());
+        } catch (Throwable throwable) {
+            return Result.failure(throwable);
+        }
+    }
+
+    /**
+     * Adapts given throwable function into a function that captures the outcome of every call as a result instead of
+     * throwing, see {@link #attempt(ThrowableSupplier)}. Intended for stream mapping where a single bad element
+     * shouldn't abort the whole stream: {@code stream(lines).map(attempting(Order::parse))}.
+     *
+     * @param function the throwable function
+     * @return a function returning results of given function
+     */
+    public static <T, R> Function<T, Result<R>> attempting(ThrowableFunction<? super T, ? extends R> function) {
+        return t -> {
+            try {
+                return Result.success(function.apply(t));
+            } catch (Throwable throwable) {
+                return Result.failure(throwable);
+            }
+        };
+    }
+
+    /**
+     * Throws given throwable as is, even if it's a checked exception that isn't declared by the calling method.
+     * Declared to return an exception, so it can be used as {@code throw sneakyThrow(throwable);} to satisfy flow
+     * analysis of the compiler, but never actually returns.
+     *
+     * @param throwable the throwable to be thrown
+     * @return never returns
+     */
+    public static RuntimeException sneakyThrow(Throwable throwable) {
+        throw Throwables.<RuntimeException>uncheckedThrow(throwable);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <X extends Throwable> X uncheckedThrow(Throwable throwable) throws X {
+        throw (X) throwable;
+    }
+
     /**
      * Delegate container that converts any throwable into a runtime exception to avoid explicit exception
      * catching. Delegates majority of the methods to the underlying throwable in-order to mimic it's behavior and
-     * return a clean stack trace that doesn't include this container.
+     * return a clean stack trace that doesn't include this container. The container itself is stackless, it never
+     * captures a stack trace of its own (which would be the most expensive part of creating it and never shown anyway).
      */
-    @RequiredArgsConstructor
     private static class RuntimeThrowable extends RuntimeException {
 
         @Delegate(excludes = Excludes.class)
         private final Throwable throwable;
 
+        private RuntimeThrowable(Throwable throwable) {
+            super(null, null, true, false);
+            this.throwable = throwable;
+        }
+
         private static interface Excludes {
             void addSuppressed(Throwable t);
             Throwable[] getSuppressed();
+            Throwable fillInStackTrace();
         }
 
     }
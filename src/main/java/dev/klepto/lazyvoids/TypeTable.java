@@ -0,0 +1,197 @@
+package dev.klepto.lazyvoids;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, precompiled type dispatch table, the compiled counterpart of {@link TypeWhen} chains. The first time an
+ * object of a concrete class is dispatched, the branches are resolved in order (including super classes and
+ * interfaces) and the matching function is cached in a {@link ClassValue}. After warm-up every dispatch is a single
+ * lookup that doesn't allocate, regardless of the amount of branches.
+ *
+ * <pre>{@code
+ * private static final TypeTable<String> DESCRIPTIONS = When.<String>typeTable()
+ *         .is(Login.class, login -> "login of " + login.getUser())
+ *         .is(Logout.class, logout -> "logout")
+ *         .build();
+ *
+ * String description = DESCRIPTIONS.orElse(message, "unknown message");
+ * }</pre>
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+public final class TypeTable<V> implements Function<Object, V> {
+
+    private static final Function<Object, Object> NO_MATCH = value -> null;
+
+    private final ClassValue<Function<Object, ?>> handlers;
+
+    private TypeTable(List<Branch> branches) {
+        this.handlers = new ClassValue<Function<Object, ?>>() {
+            @Override
+            protected Function<Object, ?> computeValue(Class<?> type) {
+                for (val branch : branches) {
+                    if (branch.type.isAssignableFrom(type)) {
+                        return branch.function;
+                    }
+                }
+                return NO_MATCH;
+            }
+        };
+    }
+
+    /**
+     * Creates a new type table builder. Usually accessed through {@link When#typeTable()}.
+     *
+     * @param <V> the value type
+     * @return a new type table builder
+     */
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the result of the first branch matching the runtime type of given object (if object didn't match any
+     * types, value will be {@code null}).
+     *
+     * @param value the object to dispatch, {@code null} never matches
+     * @return the result value or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (V) handlers.get(value.getClass()).apply(value);
+    }
+
+    /**
+     * Returns the result of the first branch matching the runtime type of given object, same as {@link #get(Object)}.
+     *
+     * @param value the object to dispatch
+     * @return the result value or {@code null}
+     */
+    @Override
+    public V apply(Object value) {
+        return get(value);
+    }
+
+    /**
+     * If runtime type of given object matches any of the branches and the result is non-null, performs the given
+     * action with the result, otherwise does nothing.
+     *
+     * @param value  the object to dispatch
+     * @param action the action to be performed, if a value is present
+     */
+    public void ifPresent(Object value, Consumer<? super V> action) {
+        val result = get(value);
+        if (result != null) {
+            action.accept(result);
+        }
+    }
+
+    /**
+     * If runtime type of given object matches any of the branches, returns the result, otherwise returns other.
+     *
+     * @param value the object to dispatch
+     * @param other the value to be returned, if no value is present (may be {@code null})
+     * @return the result, if present, otherwise other
+     */
+    public V orElse(Object value, V other) {
+        val result = get(value);
+        return result != null ? result : other;
+    }
+
+    /**
+     * If runtime type of given object matches any of the branches, returns the result, otherwise returns the result
+     * produced by the supplying function.
+     *
+     * @param value    the object to dispatch
+     * @param supplier the supplying function that produces a value to be returned
+     * @return the result, if present, otherwise the result produced by the supplying function
+     */
+    public V orElseGet(Object value, Supplier<? extends V> supplier) {
+        val result = get(value);
+        return result != null ? result : supplier.get();
+    }
+
+    /**
+     * If runtime type of given object matches any of the branches, returns the result, otherwise throws an throwable
+     * produced by the throwable supplying function.
+     *
+     * @param value             the object to dispatch
+     * @param throwableSupplier the supplying function that produces an throwable to be thrown
+     * @param <X>               type of the exception to be thrown
+     * @return the result, if present
+     * @throws X if no value is present
+     */
+    public <X extends Throwable> V orElseThrow(Object value, Supplier<? extends X> throwableSupplier) throws X {
+        val result = get(value);
+        if (result == null) {
+            throw throwableSupplier.get();
+        }
+        return result;
+    }
+
+    /**
+     * A single type branch of the table.
+     */
+    @RequiredArgsConstructor
+    private static final class Branch {
+
+        private final Class<?> type;
+        private final Function<Object, ?> function;
+
+    }
+
+    /**
+     * Builder for {@link TypeTable}. Branches are matched in the order they were added, so more specific types should
+     * be added before their super types.
+     *
+     * @param <V> the value type
+     */
+    public static final class Builder<V> {
+
+        private final List<Branch> branches = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a type branch.
+         *
+         * @param type     the type to match
+         * @param function the function that produces the result from the object cast to given type
+         * @param <T>      the matched type
+         * @param <R>      generic type to infer value type for future calls of this method
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public <T, R extends V> Builder<R> is(Class<T> type, Function<? super T, ? extends R> function) {
+            requireNonNull(type);
+            requireNonNull(function);
+            branches.add(new Branch(type, value -> function.apply(type.cast(value))));
+            return (Builder<R>) this;
+        }
+
+        /**
+         * Builds an immutable type table.
+         *
+         * @return a new type table
+         */
+        public TypeTable<V> build() {
+            return new TypeTable<>(new ArrayList<>(branches));
+        }
+
+    }
+
+}
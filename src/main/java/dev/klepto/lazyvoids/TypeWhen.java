@@ -0,0 +1,129 @@
+package dev.klepto.lazyvoids;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link When} container that matches on the runtime type of an object instead of it's equality, a fluent
+ * alternative to {@code instanceof} ladders. Unlike key mappings, the first matching branch wins, so more specific
+ * types should be listed before their super types (just like {@code catch} blocks).
+ *
+ * <pre>{@code
+ * String description = whenType(message)
+ *         .is(Login.class, login -> "login of " + login.getUser())
+ *         .is(Logout.class, logout -> "logout")
+ *         .orElse("unknown message");
+ * }</pre>
+ *
+ * <p>For dispatch on hot paths, see {@link TypeTable} which resolves every concrete class only once.
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class TypeWhen<V> {
+
+    private final Object value;
+    private final V result;
+
+    /**
+     * Creates a new type mapping, if the object of this container is an instance of given type and this container
+     * doesn't have a result yet, a new when container will be created with the result of given function.
+     * Otherwise {@code this} is returned.
+     *
+     * @param type     the type to match
+     * @param function the function that produces the result from the object cast to given type
+     * @param <T>      the matched type
+     * @param <R>      generic type to infer value type for future calls of this method
+     * @return this or new when object if object of this container is an instance of given type
+     */
+    @SuppressWarnings("unchecked")
+    public <T, R extends V> TypeWhen<R> is(Class<T> type, Function<? super T, ? extends R> function) {
+        if (isEmpty() && type.isInstance(value)) {
+            return new TypeWhen<>(value, function.apply(type.cast(value)));
+        }
+
+        return (TypeWhen<R>) this;
+    }
+
+    /**
+     * Returns true if result value is present, otherwise false.
+     *
+     * @return true if result has a non-null value, otherwise false
+     */
+    public boolean isPresent() {
+        return result != null;
+    }
+
+    /**
+     * Returns true if result value is not present, otherwise false.
+     *
+     * @return true if result has a null value, otherwise false
+     */
+    public boolean isEmpty() {
+        return !isPresent();
+    }
+
+    /**
+     * Returns the result value (if object didn't match any types, value will be {@code null}).
+     *
+     * @return the result value
+     */
+    public V get() {
+        return result;
+    }
+
+    /**
+     * If a value is present, performs the given action with the value, otherwise does nothing.
+     *
+     * @param action the action to be performed, if a value is present
+     */
+    public void ifPresent(Consumer<? super V> action) {
+        if (isPresent()) {
+            action.accept(result);
+        }
+    }
+
+    /**
+     * If a value is present, returns the value, otherwise returns other.
+     *
+     * @param other the value to be returned, if no value is present (may be {@code null})
+     * @return the value, if present, otherwise other
+     */
+    public V orElse(V other) {
+        return isPresent() ? result : other;
+    }
+
+    /**
+     * If a value is present, returns the value, otherwise returns the result produced by the supplying function.
+     *
+     * @param supplier the supplying function that produces a value to be returned
+     * @return the value, if present, otherwise the result produced by the supplying function
+     */
+    public V orElseGet(Supplier<? extends V> supplier) {
+        return isPresent() ? result : supplier.get();
+    }
+
+    /**
+     * If a value is present, returns the value, otherwise throws an throwable produced by the throwable supplying
+     * function.
+     *
+     * @param throwableSupplier the supplying function that produces an throwable to be thrown
+     * @param <X>               type of the exception to be thrown
+     * @return the value, if present
+     * @throws X if no value is present
+     */
+    public <X extends Throwable> V orElseThrow(Supplier<? extends X> throwableSupplier) throws X {
+        if (isEmpty()) {
+            throw throwableSupplier.get();
+        }
+        return result;
+    }
+
+}
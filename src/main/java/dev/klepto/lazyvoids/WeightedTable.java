@@ -0,0 +1,292 @@
+package dev.klepto.lazyvoids;
+
+import lombok.val;
+
+import java.util.*;
+
+/**
+ * An immutable table of weighted elements for pseudo-random selection. The table is precomputed once using Vose's alias
+ * method, after which every pick takes constant time regardless of the amount of elements and doesn't allocate. Backed
+ * up by the same generator as {@link Random}.
+ *
+ * <pre>{@code
+ * WeightedTable<String> loot = WeightedTable.<String>builder()
+ *         .add("common", 90)
+ *         .add("rare", 9.5)
+ *         .add("legendary", 0.5)
+ *         .build();
+ * String drop = loot.sample();
+ * }</pre>
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+public final class WeightedTable<T> {
+
+    private final Object[] elements;
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    private WeightedTable(Object[] elements, double[] weights) {
+        val size = weights.length;
+        if (size == 0) {
+            throw new IllegalArgumentException("weighted table must not be empty");
+        }
+
+        double total = 0;
+        for (val weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("weight must be a finite non-negative number: " + weight);
+            }
+            total += weight;
+        }
+        if (!(total > 0) || Double.isInfinite(total)) {
+            throw new IllegalArgumentException("total weight must be a finite positive number: " + total);
+        }
+
+        this.elements = elements;
+        this.probabilities = new double[size];
+        this.aliases = new int[size];
+
+        // scale weights so that average column is exactly 1.0 and split them into columns that are under-full and
+        // over-full, each under-full column is then topped up by one of the over-full ones (the alias)
+        val scaled = new double[size];
+        val small = new int[size];
+        val large = new int[size];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights[i] * size / total;
+            if (scaled[i] < 1) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+
+        while (smallSize > 0 && largeSize > 0) {
+            val less = small[--smallSize];
+            val more = large[--largeSize];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+
+        // leftovers are only caused by floating point rounding, they should all be full columns
+        while (largeSize > 0) {
+            probabilities[large[--largeSize]] = 1;
+        }
+        while (smallSize > 0) {
+            probabilities[small[--smallSize]] = 1;
+        }
+    }
+
+    /**
+     * Creates a new builder for a weighted table.
+     *
+     * @param <T> the element type
+     * @return a new weighted table builder
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Creates a weighted table from given element to weight mappings.
+     *
+     * @param weights the map of elements and their weights
+     * @param <T>     the element type
+     * @return a new weighted table
+     * @throws IllegalArgumentException if map is empty, any of the weights are negative or all of them are zero
+     */
+    public static <T> WeightedTable<T> of(Map<T, ? extends Number> weights) {
+        val builder = WeightedTable.<T>builder();
+        weights.forEach((element, weight) -> builder.add(element, weight.doubleValue()));
+        return builder.build();
+    }
+
+    /**
+     * Creates a weighted table from given elements and their respective weights.
+     *
+     * @param elements the elements
+     * @param weights  the weights, in the same order as elements
+     * @param <T>      the element type
+     * @return a new weighted table
+     * @throws IllegalArgumentException if amount of elements and weights doesn't match, any of the weights are negative
+     *                                  or all of them are zero
+     */
+    public static <T> WeightedTable<T> of(List<T> elements, double[] weights) {
+        if (elements.size() != weights.length) {
+            throw new IllegalArgumentException("amount of elements and weights must match");
+        }
+        return new WeightedTable<>(elements.toArray(), weights.clone());
+    }
+
+    /**
+     * Creates a weighted table from given elements and their respective weights.
+     *
+     * @param elements the elements
+     * @param weights  the weights, in the same order as elements
+     * @param <T>      the element type
+     * @return a new weighted table
+     * @throws IllegalArgumentException if amount of elements and weights doesn't match, any of the weights are negative
+     *                                  or all of them are zero
+     */
+    public static <T> WeightedTable<T> of(List<T> elements, int[] weights) {
+        return of(elements, toDoubles(weights));
+    }
+
+    /**
+     * Creates a weighted table of indices for given weights, the elements of the table are indices of the weight
+     * array. Intended to be used with {@link #sampleIndex()} and {@link #sample(int)}.
+     *
+     * @param weights the weights
+     * @return a new weighted table of indices
+     * @throws IllegalArgumentException if weight array is empty, any of the weights are negative or all of them are
+     *                                  zero
+     */
+    public static WeightedTable<Integer> of(double... weights) {
+        val indices = new Object[weights.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        return new WeightedTable<>(indices, weights.clone());
+    }
+
+    /**
+     * Creates a weighted table of indices for given weights, the elements of the table are indices of the weight
+     * array. Intended to be used with {@link #sampleIndex()} and {@link #sample(int)}.
+     *
+     * @param weights the weights
+     * @return a new weighted table of indices
+     * @throws IllegalArgumentException if weight array is empty, any of the weights are negative or all of them are
+     *                                  zero
+     */
+    public static WeightedTable<Integer> of(int... weights) {
+        return of(toDoubles(weights));
+    }
+
+    private static double[] toDoubles(int[] values) {
+        val result = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the amount of elements in this table.
+     *
+     * @return the amount of elements
+     */
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * Returns the element at given index, in the order elements were added to this table.
+     *
+     * @param index the element index
+     * @return the element at given index
+     * @throws ArrayIndexOutOfBoundsException if index is out of bounds
+     */
+    @SuppressWarnings("unchecked")
+    public T element(int index) {
+        return (T) elements[index];
+    }
+
+    /**
+     * Picks a pseudo-random element index with probability proportional to it's weight.
+     *
+     * @return a pseudo-random element index
+     */
+    public int sampleIndex() {
+        return sampleIndex(Random.generator());
+    }
+
+    private int sampleIndex(java.util.Random generator) {
+        val column = generator.nextInt(probabilities.length);
+        return generator.nextDouble() < probabilities[column] ? column : aliases[column];
+    }
+
+    /**
+     * Picks a pseudo-random element with probability proportional to it's weight.
+     *
+     * @return a pseudo-random element
+     */
+    public T sample() {
+        return element(sampleIndex());
+    }
+
+    /**
+     * Picks given amount of pseudo-random element indices (with replacement).
+     *
+     * @param count the amount of indices to pick
+     * @return a new array containing picked indices
+     */
+    public int[] sample(int count) {
+        val indices = new int[count];
+        sample(indices);
+        return indices;
+    }
+
+    /**
+     * Fills given array with pseudo-random element indices (with replacement).
+     *
+     * @param indices the destination array
+     */
+    public void sample(int[] indices) {
+        val generator = Random.generator();
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = sampleIndex(generator);
+        }
+    }
+
+    /**
+     * Builder for {@link WeightedTable}, collects element and weight pairs in insertion order.
+     *
+     * @param <T> the element type
+     */
+    public static final class Builder<T> {
+
+        private final List<T> elements = new ArrayList<>();
+        private double[] weights = new double[16];
+
+        private Builder() {
+        }
+
+        /**
+         * Adds an element with given weight.
+         *
+         * @param element the element
+         * @param weight  the weight of the element, must not be negative
+         * @return this builder
+         */
+        public Builder<T> add(T element, double weight) {
+            if (elements.size() == weights.length) {
+                weights = Arrays.copyOf(weights, weights.length * 2);
+            }
+            weights[elements.size()] = weight;
+            elements.add(element);
+            return this;
+        }
+
+        /**
+         * Builds the weighted table.
+         *
+         * @return a new weighted table
+         * @throws IllegalArgumentException if no elements were added, any of the weights are negative or all of them
+         *                                  are zero
+         */
+        public WeightedTable<T> build() {
+            return new WeightedTable<>(elements.toArray(), Arrays.copyOf(weights, elements.size()));
+        }
+
+    }
+
+}
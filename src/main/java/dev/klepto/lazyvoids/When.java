@@ -5,8 +5,7 @@ import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
-import java.util.function.Consumer;
-import java.util.function.Supplier;
+import java.util.function.*;
 
 /**
  * A key-value pair container object which may or may not contain a non-null value. When enables simplified key-value
@@ -17,6 +16,11 @@ import java.util.function.Supplier;
  * <p>If a value is null, {@code isEmpty()} will return {@code true} and {@code orElse()} will return the given
  * default value.
  * <p>Additional methods are included to somewhat resemble functionality of {@link java.util.Optional}.
+ * <p>Eager mappings ({@code map}, {@code mapRange}, {@code mapAtLeast} and {@code mapBelow}) replace the result
+ * whenever they match, so the last matching one wins. Lazy mappings ({@code mapGet} and {@code mapIf}) are skipped once
+ * the container has a result, so they never replace an earlier match. In a chain that mixes both, the result depends on
+ * the order of branches: {@code when(k).map(k, a).mapGet(k, () -> b)} results in {@code a}, while
+ * {@code when(k).mapGet(k, () -> a).map(k, b)} results in {@code b}.
  *
  * @author <a href="https://klepto.dev/">Augustinas R.</a>
  * @since 0.1
@@ -41,6 +45,106 @@ public final class When<K, V> {
         return new When<>(key, null);
     }
 
+    /**
+     * Creates a new when mapper for a given primitive {@code int} key with an empty result. Keys are compared without
+     * boxing.
+     *
+     * @param key the key
+     * @param <V> the value type for compile-time type safety
+     * @return a new when mapper for a given key
+     * @see IntWhen
+     */
+    public static <V> IntWhen<V> when(int key) {
+        return new IntWhen<>(key, null);
+    }
+
+    /**
+     * Creates a new when mapper for a given primitive {@code long} key with an empty result. Keys are compared without
+     * boxing.
+     *
+     * @param key the key
+     * @param <V> the value type for compile-time type safety
+     * @return a new when mapper for a given key
+     * @see LongWhen
+     */
+    public static <V> LongWhen<V> when(long key) {
+        return new LongWhen<>(key, null);
+    }
+
+    /**
+     * Creates a new when mapper for a given primitive {@code char} key with an empty result. Keys are compared without
+     * boxing.
+     *
+     * @param key the key
+     * @param <V> the value type for compile-time type safety
+     * @return a new when mapper for a given key
+     * @see CharWhen
+     */
+    public static <V> CharWhen<V> when(char key) {
+        return new CharWhen<>(key, null);
+    }
+
+    /**
+     * Creates a new type matcher for a given object with an empty result. Branches are matched by the runtime type of
+     * the object rather than it's equality.
+     *
+     * @param value the object to match
+     * @param <V>   the value type for compile-time type safety
+     * @return a new type matcher for a given object
+     * @see TypeWhen
+     */
+    public static <V> TypeWhen<V> whenType(Object value) {
+        return new TypeWhen<>(value, null);
+    }
+
+    /**
+     * Creates a new builder for a precompiled mapping table. Tables have the same semantics as when chains but are
+     * built only once, intended for mappings that are evaluated on hot paths.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return a new table builder
+     * @see WhenTable
+     */
+    public static <K, V> WhenTable.Builder<K, V> table() {
+        return WhenTable.builder();
+    }
+
+    /**
+     * Creates a new builder for a precompiled table of non-overlapping key ranges, resolved with binary search.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return a new range table builder
+     * @see RangeTable
+     */
+    public static <K extends Comparable<? super K>, V> RangeTable.Builder<K, V> rangeTable() {
+        return RangeTable.builder();
+    }
+
+    /**
+     * Creates a new builder for a precompiled table of non-overlapping primitive key ranges, resolved with binary
+     * search or a direct lookup array for small key domains.
+     *
+     * @param <V> the value type
+     * @return a new range table builder
+     * @see LongRangeTable
+     */
+    public static <V> LongRangeTable.Builder<V> longRangeTable() {
+        return LongRangeTable.builder();
+    }
+
+    /**
+     * Creates a new builder for a precompiled type dispatch table, resolving every concrete class only once.
+     *
+     * @param <V> the value type
+     * @return a new type table builder
+     * @see TypeTable
+     */
+    public static <V> TypeTable.Builder<V> typeTable() {
+        return TypeTable.builder();
+    }
+
     /**
      * Creates a new mapping for key-value pair, if given key equals to key of this container, a new when container
      * will be created with given value as the result. Otherwise {@code this} is returned. Using polymorphic value
@@ -62,6 +166,128 @@ public final class When<K, V> {
         return (When<K, T>) this;
     }
 
+    /**
+     * Creates a new lazy mapping for key-value pair. Unlike {@link #map(Object, Object)}, the value is only computed
+     * if given key equals to key of this container, and the comparison is skipped altogether once this container
+     * already has a result. Intended for values that are expensive to create. Unlike {@link #map(Object, Object)}, it
+     * never replaces an earlier match, though a later eager mapping still replaces its result.
+     *
+     * @param key      the mapping key
+     * @param supplier the supplying function that produces the mapping value
+     * @param <T>      generic type to infer value type for future calls of this method
+     * @return this or new when object if key matched the key of this container
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends V> When<K, T> mapGet(K key, Supplier<? extends T> supplier) {
+        if (isEmpty() && this.key.equals(key)) {
+            return new When<>(this.key, supplier.get());
+        }
+
+        return (When<K, T>) this;
+    }
+
+    /**
+     * Creates a new lazy mapping for keys that match given predicate. The value is computed from the key of this
+     * container only if the predicate matches, and neither predicate nor function are evaluated once this container
+     * already has a result. Unlike {@link #map(Object, Object)}, it never replaces an earlier match, though a later
+     * eager mapping still replaces its result.
+     *
+     * @param predicate the predicate to test the key of this container with
+     * @param function  the function that produces the mapping value from the key of this container
+     * @param <T>       generic type to infer value type for future calls of this method
+     * @return this or new when object if predicate matched the key of this container
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends V> When<K, T> mapIf(Predicate<? super K> predicate, Function<? super K, ? extends T> function) {
+        if (isEmpty() && predicate.test(key)) {
+            return new When<>(key, function.apply(key));
+        }
+
+        return (When<K, T>) this;
+    }
+
+    /**
+     * Creates a new mapping for a range of keys, if key of this container is within given range, a new when container
+     * will be created with given value as the result. Otherwise {@code this} is returned.
+     *
+     * @param from  the lower bound of the range (inclusive)
+     * @param to    the upper bound of the range (exclusive)
+     * @param value the mapping value
+     * @param <T>   generic type to infer value type for future calls of this method
+     * @return this or new when object if key of this container is within the range
+     * @throws ClassCastException if key of this container can't be compared with given bounds
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends V> When<K, T> mapRange(Comparable<? super K> from, Comparable<? super K> to, T value) {
+        if (from.compareTo(key) <= 0 && to.compareTo(key) > 0) {
+            return new When<>(key, value);
+        }
+
+        return (When<K, T>) this;
+    }
+
+    /**
+     * Creates a new mapping for keys greater or equal to given threshold. Like the other eager mappings ({@code map},
+     * {@code mapRange} and {@code mapBelow}), a later match replaces the result of an earlier one (lazy
+     * {@code mapGet} and {@code mapIf} keep the first match instead), so tiers can be listed in ascending order:
+     *
+     * <pre>{@code
+     * String tier = when(price)
+     *         .mapAtLeast(BigDecimal.ZERO, "cheap")
+     *         .mapAtLeast(BigDecimal.TEN, "pricey")
+     *         .mapAtLeast(BigDecimal.valueOf(100), "luxury")
+     *         .orElse("free money");
+     * }</pre>
+     *
+     * @param threshold the lowest matching key (inclusive)
+     * @param value     the mapping value
+     * @param <T>       generic type to infer value type for future calls of this method
+     * @return this or new when object if key of this container is at least the threshold
+     * @throws ClassCastException if key of this container can't be compared with given threshold
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends V> When<K, T> mapAtLeast(Comparable<? super K> threshold, T value) {
+        if (threshold.compareTo(key) <= 0) {
+            return new When<>(key, value);
+        }
+
+        return (When<K, T>) this;
+    }
+
+    /**
+     * Creates a new mapping for keys less than given threshold.
+     *
+     * @param threshold the upper bound of matching keys (exclusive)
+     * @param value     the mapping value
+     * @param <T>       generic type to infer value type for future calls of this method
+     * @return this or new when object if key of this container is below the threshold
+     * @throws ClassCastException if key of this container can't be compared with given threshold
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends V> When<K, T> mapBelow(Comparable<? super K> threshold, T value) {
+        if (threshold.compareTo(key) > 0) {
+            return new When<>(key, value);
+        }
+
+        return (When<K, T>) this;
+    }
+
+    /**
+     * Creates a new mapping for key and primitive {@code int} value pair, turning this container into an
+     * {@code int} result container. Only available before the first mapping with a reference value.
+     *
+     * @param key   the mapping key
+     * @param value the mapping value
+     * @return a new when container with primitive {@code int} result
+     * @throws IllegalStateException if a mapping with a reference value has already matched
+     */
+    public ToInt<K> mapInt(K key, int value) {
+        if (isPresent()) {
+            throw new IllegalStateException("Primitive mapping after a matched reference mapping: " + result);
+        }
+        return new ToInt<>(this.key, false, 0).mapInt(key, value);
+    }
+
     /**
      * Returns true if result value is present, otherwise false.
      *
@@ -135,4 +361,35 @@ public final class When<K, V> {
         return result;
     }
 
+    /**
+     * A when container with reference key and primitive {@code int} result, neither keys nor results are boxed.
+     */
+    @EqualsAndHashCode(callSuper = true)
+    public static final class ToInt<K> extends IntWhenResult {
+
+        private final K key;
+
+        private ToInt(K key, boolean present, int result) {
+            super(present, result);
+            this.key = key;
+        }
+
+        /**
+         * Creates a new mapping for key and value pair, if given key equals to key of this container, a new when
+         * container will be created with given value as the result. Otherwise {@code this} is returned.
+         *
+         * @param key   the mapping key
+         * @param value the mapping value
+         * @return this or new when object if key matched the key of this container
+         */
+        public ToInt<K> mapInt(K key, int value) {
+            if (this.key.equals(key)) {
+                return new ToInt<>(key, true, value);
+            }
+
+            return this;
+        }
+
+    }
+
 }
@@ -0,0 +1,110 @@
+package dev.klepto.lazyvoids;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Result of the primitive-key when containers ({@link IntWhen}, {@link LongWhen} and {@link CharWhen}). Holds the
+ * result and its accessors, while the subclasses hold the key and the mappings, which compare keys as primitives.
+ *
+ * @param <V> the value type
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+@EqualsAndHashCode
+abstract class WhenResult<V> {
+
+    final V result;
+
+    WhenResult(V result) {
+        this.result = result;
+    }
+
+    /**
+     * Throws if this container already has a result, so that switching to a primitive result never silently drops it.
+     *
+     * @throws IllegalStateException if result value is present
+     */
+    void checkNoResult() {
+        if (isPresent()) {
+            throw new IllegalStateException("Primitive mapping after a matched reference mapping: " + result);
+        }
+    }
+
+    /**
+     * Returns true if result value is present, otherwise false.
+     *
+     * @return true if result has a non-null value, otherwise false
+     */
+    public boolean isPresent() {
+        return result != null;
+    }
+
+    /**
+     * Returns true if result value is not present, otherwise false.
+     *
+     * @return true if result has a null value, otherwise false
+     */
+    public boolean isEmpty() {
+        return !isPresent();
+    }
+
+    /**
+     * Returns the result value (if key didn't match any mappings, value will be {@code null}).
+     *
+     * @return the result value
+     */
+    public V get() {
+        return result;
+    }
+
+    /**
+     * If a value is present, performs the given action with the value, otherwise does nothing.
+     *
+     * @param action the action to be performed, if a value is present
+     */
+    public void ifPresent(Consumer<? super V> action) {
+        if (isPresent()) {
+            action.accept(result);
+        }
+    }
+
+    /**
+     * If a value is present, returns the value, otherwise returns other.
+     *
+     * @param other the value to be returned, if no value is present (may be {@code null})
+     * @return the value, if present, otherwise other
+     */
+    public V orElse(V other) {
+        return isPresent() ? result : other;
+    }
+
+    /**
+     * If a value is present, returns the value, otherwise returns the result produced by the supplying function.
+     *
+     * @param supplier the supplying function that produces a value to be returned
+     * @return the value, if present, otherwise the result produced by the supplying function
+     */
+    public V orElseGet(Supplier<? extends V> supplier) {
+        return isPresent() ? result : supplier.get();
+    }
+
+    /**
+     * If a value is present, returns the value, otherwise throws an throwable produced by the throwable supplying
+     * function.
+     *
+     * @param throwableSupplier the supplying function that produces an throwable to be thrown
+     * @param <X>               type of the exception to be thrown
+     * @return the value, if present
+     * @throws X if no value is present
+     */
+    public <X extends Throwable> V orElseThrow(Supplier<? extends X> throwableSupplier) throws X {
+        if (isEmpty()) {
+            throw throwableSupplier.get();
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,299 @@
+package dev.klepto.lazyvoids;
+
+import lombok.val;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, precompiled key-value mapping with the same semantics as a {@link When} chain. Where a chain allocates
+ * a container and compares the key with every branch each time it's evaluated, a table is built once and then looks up
+ * the result in constant time without allocating:
+ * <ul>
+ * <li>enumeration keys of a single type are stored in an array indexed by ordinal;</li>
+ * <li>{@link Integer} keys within a small range are stored in an array indexed by key;</li>
+ * <li>any other keys (including strings) are stored in an open-addressing hash table that keeps hash codes next to the
+ * keys, so mismatching branches are skipped by an {@code int} comparison the same way a {@code switch} on a string
+ * would.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * private static final WhenTable<String, Integer> NUMBERS = When.<String, Integer>table()
+ *         .map("one", 1)
+ *         .map("two", 2)
+ *         .build();
+ *
+ * int value = NUMBERS.orElse(number, 0);
+ * }</pre>
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ */
+public final class WhenTable<K, V> implements Function<K, V> {
+
+    private static final int MAX_DENSE_RANGE = 1 << 16;
+
+    private final Layout layout;
+    private final Class<?> enumType;
+    private final int offset;
+    private final Object[] keys;
+    private final int[] hashes;
+    private final Object[] values;
+
+    private WhenTable(Map<K, V> mappings) {
+        val enumType = enumType(mappings);
+        if (enumType != null) {
+            this.layout = Layout.ENUM;
+            this.enumType = enumType;
+            this.offset = 0;
+            this.keys = null;
+            this.hashes = null;
+            this.values = new Object[enumType.getEnumConstants().length];
+            mappings.forEach((key, value) -> values[((Enum<?>) key).ordinal()] = value);
+            return;
+        }
+
+        this.enumType = null;
+        val range = denseRange(mappings);
+        if (range != null) {
+            this.layout = Layout.DENSE;
+            this.offset = range[0];
+            this.keys = null;
+            this.hashes = null;
+            this.values = new Object[range[1] - range[0] + 1];
+            mappings.forEach((key, value) -> values[(Integer) key - offset] = value);
+            return;
+        }
+
+        this.layout = Layout.HASH;
+        this.offset = 0;
+        val capacity = Integer.highestOneBit(Math.max(mappings.size(), 1) * 2 - 1) << 1;
+        this.keys = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.values = new Object[capacity];
+        mappings.forEach((key, value) -> {
+            val hash = spread(key.hashCode());
+            int index = hash & (capacity - 1);
+            while (keys[index] != null) {
+                index = (index + 1) & (capacity - 1);
+            }
+            keys[index] = key;
+            hashes[index] = hash;
+            values[index] = value;
+        });
+    }
+
+    /**
+     * Creates a new table builder. Usually accessed through {@link When#table()}.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return a new table builder
+     */
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    private static Class<?> enumType(Map<?, ?> mappings) {
+        Class<?> type = null;
+        for (val key : mappings.keySet()) {
+            if (!(key instanceof Enum)) {
+                return null;
+            }
+            val keyType = ((Enum<?>) key).getDeclaringClass();
+            if (type != null && type != keyType) {
+                return null;
+            }
+            type = keyType;
+        }
+        return type;
+    }
+
+    private static int[] denseRange(Map<?, ?> mappings) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (val key : mappings.keySet()) {
+            if (!(key instanceof Integer)) {
+                return null;
+            }
+            min = Math.min(min, (Integer) key);
+            max = Math.max(max, (Integer) key);
+        }
+        val range = (long) max - min + 1;
+        if (mappings.isEmpty() || range > MAX_DENSE_RANGE || range > Math.max(64, 4L * mappings.size())) {
+            return null;
+        }
+        return new int[]{min, max};
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the value mapped to given key (if key didn't match any mappings, value will be {@code null}).
+     *
+     * @param key the key, {@code null} never matches
+     * @return the mapped value or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (key == null) {
+            return null;
+        }
+
+        switch (layout) {
+            case ENUM:
+                if (key instanceof Enum && ((Enum<?>) key).getDeclaringClass() == enumType) {
+                    return (V) values[((Enum<?>) key).ordinal()];
+                }
+                return null;
+            case DENSE:
+                if (key instanceof Integer) {
+                    val index = (Integer) key - offset;
+                    if (index >= 0 && index < values.length) {
+                        return (V) values[index];
+                    }
+                }
+                return null;
+            default:
+                val hash = spread(key.hashCode());
+                val mask = keys.length - 1;
+                for (int index = hash & mask; keys[index] != null; index = (index + 1) & mask) {
+                    if (hashes[index] == hash && key.equals(keys[index])) {
+                        return (V) values[index];
+                    }
+                }
+                return null;
+        }
+    }
+
+    /**
+     * Returns the value mapped to given key, same as {@link #get(Object)}.
+     *
+     * @param key the key
+     * @return the mapped value or {@code null}
+     */
+    @Override
+    public V apply(K key) {
+        return get(key);
+    }
+
+    /**
+     * Returns true if given key is mapped to a non-null value, otherwise false.
+     *
+     * @param key the key
+     * @return true if given key is mapped to a non-null value, otherwise false
+     */
+    public boolean isPresent(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * If given key is mapped to a value, performs the given action with the value, otherwise does nothing.
+     *
+     * @param key    the key
+     * @param action the action to be performed, if a value is present
+     */
+    public void ifPresent(K key, Consumer<? super V> action) {
+        val result = get(key);
+        if (result != null) {
+            action.accept(result);
+        }
+    }
+
+    /**
+     * If given key is mapped to a value, returns the value, otherwise returns other.
+     *
+     * @param key   the key
+     * @param other the value to be returned, if no value is present (may be {@code null})
+     * @return the value, if present, otherwise other
+     */
+    public V orElse(K key, V other) {
+        val result = get(key);
+        return result != null ? result : other;
+    }
+
+    /**
+     * If given key is mapped to a value, returns the value, otherwise returns the result produced by the supplying
+     * function.
+     *
+     * @param key      the key
+     * @param supplier the supplying function that produces a value to be returned
+     * @return the value, if present, otherwise the result produced by the supplying function
+     */
+    public V orElseGet(K key, Supplier<? extends V> supplier) {
+        val result = get(key);
+        return result != null ? result : supplier.get();
+    }
+
+    /**
+     * If given key is mapped to a value, returns the value, otherwise throws an throwable produced by the throwable
+     * supplying function.
+     *
+     * @param key               the key
+     * @param throwableSupplier the supplying function that produces an throwable to be thrown
+     * @param <X>               type of the exception to be thrown
+     * @return the value, if present
+     * @throws X if no value is present
+     */
+    public <X extends Throwable> V orElseThrow(K key, Supplier<? extends X> throwableSupplier) throws X {
+        val result = get(key);
+        if (result == null) {
+            throw throwableSupplier.get();
+        }
+        return result;
+    }
+
+    /**
+     * Memory layout of the table, chosen once when the table is built.
+     */
+    private enum Layout {
+        ENUM, DENSE, HASH
+    }
+
+    /**
+     * Builder for {@link WhenTable}. Like in a {@link When} chain, mapping the same key again replaces the previous
+     * value.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    public static final class Builder<K, V> {
+
+        private final Map<K, V> mappings = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a mapping for key-value pair.
+         *
+         * @param key   the mapping key
+         * @param value the mapping value
+         * @param <T>   generic type to infer value type for future calls of this method
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public <T extends V> Builder<K, T> map(K key, T value) {
+            mappings.put(requireNonNull(key), value);
+            return (Builder<K, T>) this;
+        }
+
+        /**
+         * Builds an immutable table containing all of the mappings.
+         *
+         * @return a new table
+         */
+        public WhenTable<K, V> build() {
+            return new WhenTable<>(mappings);
+        }
+
+    }
+
+}
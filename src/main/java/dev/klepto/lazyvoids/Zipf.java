@@ -0,0 +1,154 @@
+package dev.klepto.lazyvoids;
+
+import lombok.val;
+
+/**
+ * A precomputed sampler of Zipf distribution over values between {@code 1} and given amount of elements (both
+ * inclusive), where probability of value {@code k} is proportional to {@code 1 / k^exponent}. Constants of
+ * H&ouml;rmann and Derflinger's rejection-inversion method are computed once when the sampler is created, after which
+ * every sample takes constant expected time regardless of the amount of elements and doesn't allocate. Intended to be
+ * created once and kept, for example by load generators drawing millions of keys. Backed up by the same generator as
+ * {@link Random}.
+ *
+ * <pre>{@code
+ * private static final Zipf KEYS = Zipf.of(1_000_000, 1.1);
+ * int key = KEYS.sample();
+ * }</pre>
+ *
+ * @author <a href="https://klepto.dev/">Augustinas R.</a>
+ * @since 0.1
+ * @see Random#zipf(int, double)
+ */
+public final class Zipf {
+
+    private final int elements;
+    private final double exponent;
+    private final double integralFirst;
+    private final double integralLast;
+    private final double squeeze;
+
+    private Zipf(int elements, double exponent) {
+        if (elements <= 0) {
+            throw new IllegalArgumentException("amount of elements must be positive");
+        }
+        if (!(exponent > 0) || Double.isInfinite(exponent)) {
+            throw new IllegalArgumentException("exponent must be a finite positive number: " + exponent);
+        }
+        this.elements = elements;
+        this.exponent = exponent;
+        this.integralFirst = integral(1.5) - 1;
+        this.integralLast = integral(elements + 0.5);
+        this.squeeze = 2 - inverseIntegral(integral(2.5) - density(2));
+    }
+
+    /**
+     * Creates a new Zipf sampler.
+     *
+     * @param elements the amount of elements
+     * @param exponent the exponent of the distribution
+     * @return a new Zipf sampler
+     * @throws IllegalArgumentException if amount of elements or exponent is not positive
+     */
+    public static Zipf of(int elements, double exponent) {
+        return new Zipf(elements, exponent);
+    }
+
+    /**
+     * Returns the amount of elements, the greatest value this sampler returns.
+     *
+     * @return the amount of elements
+     */
+    public int elements() {
+        return elements;
+    }
+
+    /**
+     * Returns the exponent of the distribution.
+     *
+     * @return the exponent
+     */
+    public double exponent() {
+        return exponent;
+    }
+
+    /**
+     * Returns a Zipf distributed value between {@code 1} and the amount of elements (both inclusive).
+     *
+     * @return a Zipf distributed pseudo-random {@code int}
+     */
+    public int sample() {
+        return sample(Random.generator());
+    }
+
+    /**
+     * Returns given amount of Zipf distributed values.
+     *
+     * @param count the amount of values
+     * @return a new array containing the values
+     */
+    public int[] sample(int count) {
+        val values = new int[count];
+        sample(values);
+        return values;
+    }
+
+    /**
+     * Fills given array with Zipf distributed values.
+     *
+     * @param array the destination array
+     */
+    public void sample(int[] array) {
+        val generator = Random.generator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = sample(generator);
+        }
+    }
+
+    int sample(java.util.Random generator) {
+        while (true) {
+            val u = integralLast + generator.nextDouble() * (integralFirst - integralLast);
+            val x = inverseIntegral(u);
+            int k = (int) (x + 0.5);
+            if (k < 1) {
+                k = 1;
+            } else if (k > elements) {
+                k = elements;
+            }
+            if (k - x <= squeeze || u >= integral(k + 0.5) - density(k)) {
+                return k;
+            }
+        }
+    }
+
+    private double density(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double integral(double x) {
+        val logX = Math.log(x);
+        return expm1OverX((1 - exponent) * logX) * logX;
+    }
+
+    private double inverseIntegral(double x) {
+        double t = x * (1 - exponent);
+        if (t < -1) {
+            t = -1;
+        }
+        return Math.exp(log1pOverX(t) * x);
+    }
+
+    private static double log1pOverX(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.log1p(x) / x;
+        }
+        return 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+    }
+
+    private static double expm1OverX(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.expm1(x) / x;
+        }
+        return 1 + x * 0.5 * (1 + x * (1.0 / 3) * (1 + 0.25 * x));
+    }
+
+}